@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchExecutor;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,7 +19,12 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
     private Path configPath;
+    private String batchScript;
+    private int batchCheckpointInterval = BatchExecutor.NO_CHECKPOINTS;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,55 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run without the GUI, as it was given, or null if the GUI should
+     * be shown. The path is not checked here, so that a script given with an invalid path is reported as a failed
+     * batch run rather than starting the GUI.
+     */
+    public String getBatchScript() {
+        return batchScript;
+    }
+
+    public void setBatchScript(String batchScript) {
+        this.batchScript = batchScript;
+    }
+
+    /**
+     * Returns the number of successful commands of the batch script after which the data is saved.
+     */
+    public int getBatchCheckpointInterval() {
+        return batchCheckpointInterval;
+    }
+
+    public void setBatchCheckpointInterval(int batchCheckpointInterval) {
+        this.batchCheckpointInterval = batchCheckpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before they are given to JavaFX.
+     * Named parameters have the form {@code --name=value}, as in {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +91,19 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        appParameters.setBatchScript(namedParameters.get("batch"));
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            try {
+                appParameters.setBatchCheckpointInterval(Math.max(Integer.parseInt(checkpointParameter),
+                        BatchExecutor.NO_CHECKPOINTS));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid checkpoint interval " + checkpointParameter
+                        + ". Saving only at the end of the batch script.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +119,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchScript, otherAppParameters.batchScript)
+                && batchCheckpointInterval == otherAppParameters.batchCheckpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScript, batchCheckpointInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchScript", batchScript)
+                .add("batchCheckpointInterval", batchCheckpointInterval)
                 .toString();
     }
 }
@@ -0,0 +1,123 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPolicyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonPolicyBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserProfileStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of ClientNest commands against the stored data without showing the GUI.
+ * The result of each command is printed as it is executed, followed by a summary of the whole run.
+ * Unlike the GUI, the run is stopped rather than started with empty data if a data file cannot be loaded, so that
+ * saving the results of the script never overwrites data that could not be read.
+ */
+public class BatchApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    private final AppParameters appParameters;
+
+    /**
+     * Creates a {@code BatchApp} that runs the batch script of {@code appParameters}.
+     */
+    public BatchApp(AppParameters appParameters) {
+        requireNonNull(appParameters);
+        requireNonNull(appParameters.getBatchScript());
+        this.appParameters = appParameters;
+    }
+
+    /**
+     * Runs the batch script and returns the exit status of the app.
+     * The status is {@link #EXIT_COMMAND_FAILED} if some commands failed, and {@link #EXIT_ERROR} if the script
+     * could not be run to the end.
+     */
+    public int run() {
+        Config config = readConfig();
+        LogsCenter.init(config);
+
+        String script = appParameters.getBatchScript();
+        if (!FileUtil.isValidPath(script)) {
+            logger.severe("Batch script " + script + " is not a valid file path");
+            System.err.println("Batch script " + script + " could not be run: it is not a valid file path");
+            return EXIT_ERROR;
+        }
+        Path scriptPath = Paths.get(script);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs;
+        try {
+            userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + config.getUserPrefsFilePath() + " could not be loaded."
+                    + " Using default preferences.");
+            userPrefs = new UserPrefs();
+        }
+
+        Storage storage = new StorageManager(MainApp.initAddressBookStorage(userPrefs),
+                new JsonPolicyBookStorage(userPrefs.getPolicyBookFilePath()), userPrefsStorage,
+                new JsonUserProfileStorage(userPrefs.getUserProfileFilePath()));
+
+        try {
+            List<String> scriptLines = Files.readAllLines(scriptPath);
+            ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+            ReadOnlyPolicyBook policyBook = storage.readPolicyBook().orElseGet(PolicyBook::new);
+            Model model = new ModelManager(addressBook, policyBook, userPrefs, new UserProfile(), storage);
+
+            BatchExecutor.Summary summary = new BatchExecutor(model, storage,
+                    appParameters.getBatchCheckpointInterval()).execute(scriptLines, System.out::println);
+            System.out.println(summary);
+            return summary.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException | DataLoadingException e) {
+            logger.severe("Batch script " + scriptPath + " could not be run: " + StringUtil.getDetails(e));
+            System.err.println("Batch script " + scriptPath + " could not be run: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Returns the {@code Config} in the config file of the app parameters, or the default config if it cannot be
+     * read. Unlike the GUI, the config file is never written.
+     */
+    private Config readConfig() {
+        Path configFilePath = appParameters.getConfigPath() != null
+                ? appParameters.getConfigPath()
+                : Config.DEFAULT_CONFIG_FILE;
+        try {
+            return ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+}
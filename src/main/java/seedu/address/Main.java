@@ -25,6 +25,11 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        // A batch script is run without starting JavaFX at all
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getBatchScript() != null) {
+            System.exit(new BatchApp(appParameters).run());
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -1,9 +1,17 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -14,6 +22,7 @@ import seedu.address.commons.core.user.UserProfile;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandStats;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -26,6 +35,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonPolicyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -35,6 +45,7 @@ import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.UserProfileStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -47,10 +58,17 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** One thread for each of the address book, the policy book and the user profile. */
+    private static final int STARTUP_LOADER_THREADS = 3;
+
+    /** The name under which the latencies of the commands can be read through JMX. */
+    private static final String COMMAND_STATS_MBEAN_NAME = "seedu.address:type=CommandStats";
+
     protected Ui ui;
-    protected Logic logic;
+    protected volatile Logic logic;
     protected Storage storage;
-    protected Model model;
+    protected WriteBehindSaver writeBehindSaver;
+    protected volatile Model model;
     protected Config config;
 
     @Override
@@ -59,81 +77,150 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = logDuration("Read config", () -> initConfig(appParameters.getConfigPath()));
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        UserPrefs userPrefs = logDuration("Read preferences", () -> initPrefs(userPrefsStorage));
 
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         PolicyBookStorage policyBookStorage = new JsonPolicyBookStorage(userPrefs.getPolicyBookFilePath());
         UserProfileStorage userProfileStorage = new JsonUserProfileStorage(userPrefs.getUserProfileFilePath());
         storage = new StorageManager(addressBookStorage, policyBookStorage, userPrefsStorage, userProfileStorage);
+        writeBehindSaver = new WriteBehindSaver(storage);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
+        // The data files are read while JavaFX shows the main window, which is filled in once they are loaded
+        ui = new UiManager(userPrefs.getGuiSettings(), initLogic(storage, userPrefs));
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s
-     * address book and premium book and {@code userPrefs}.
+     * Starts reading the data files of {@code storage} concurrently, and returns the {@code Logic} that will hold
+     * their data and {@code userPrefs} once they are all loaded.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private CompletableFuture<Logic> initLogic(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
         logger.info("Using premium data file : " + storage.getPolicyBookFilePath());
         logger.info("Using profile data file : " + storage.getUserProfileFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyPolicyBook> policyBookOptional;
-        Optional<UserProfile> userProfileOptional;
-        ReadOnlyAddressBook initialAddressBookData;
-        ReadOnlyPolicyBook initialPolicyBookData;
-        UserProfile initialUserProfileData;
+        ExecutorService loader = Executors.newFixedThreadPool(STARTUP_LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<ReadOnlyAddressBook> addressBook = CompletableFuture.supplyAsync(() ->
+                logDuration("Read address book", () -> readAddressBook(storage)), loader);
+        CompletableFuture<ReadOnlyPolicyBook> policyBook = CompletableFuture.supplyAsync(() ->
+                logDuration("Read policy book", () -> readPolicyBook(storage)), loader);
+        CompletableFuture<UserProfile> userProfile = CompletableFuture.supplyAsync(() ->
+                logDuration("Read user profile", () -> readUserProfile(storage)), loader);
+        loader.shutdown();
+
+        return CompletableFuture.allOf(addressBook, policyBook, userProfile).thenApply(unused -> {
+            model = logDuration("Initialized model", () -> new ModelManager(addressBook.join(), policyBook.join(),
+                    userPrefs, userProfile.join(), storage));
+            LogicManager logicManager = new LogicManager(model, storage, writeBehindSaver);
+            registerMBean(logicManager.getCommandStats());
+            logic = logicManager;
+            logger.info(String.format("Loaded all data %d ms after launch", getUptimeMillis()));
+            return logic;
+        });
+    }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file and storage format in {@code userPrefs}.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using address book storage format : " + userPrefs.getAddressBookStorageFormat());
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+    }
+
+    /**
+     * Returns the address book in {@code storage}, the sample address book if there is none yet, or an empty
+     * address book if it could not be loaded.
+     */
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialAddressBookData = new AddressBook();
+            return new AddressBook();
         }
+    }
 
+    /**
+     * Returns the policy book in {@code storage}, the sample policy book if there is none yet, or an empty
+     * policy book if it could not be loaded.
+     */
+    private ReadOnlyPolicyBook readPolicyBook(Storage storage) {
         try {
-            policyBookOptional = storage.readPolicyBook();
+            Optional<ReadOnlyPolicyBook> policyBookOptional = storage.readPolicyBook();
             if (!policyBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getPolicyBookFilePath()
                         + " populated with a sample PolicyBook.");
             }
-            initialPolicyBookData = policyBookOptional.orElseGet(SampleDataUtil::getSamplePolicyBook);
+            return policyBookOptional.orElseGet(SampleDataUtil::getSamplePolicyBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getPolicyBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty PolicyBook.");
-            initialPolicyBookData = new PolicyBook();
+            return new PolicyBook();
         }
+    }
 
+    /**
+     * Reads the user profile file of {@code storage}, creating it if it is missing, and returns the initial user
+     * profile of the model.
+     */
+    private UserProfile readUserProfile(Storage storage) {
         try {
-            userProfileOptional = storage.readUserProfile();
+            Optional<UserProfile> userProfileOptional = storage.readUserProfile();
             if (!userProfileOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getUserProfileFilePath()
                         + " populated with a default user profile.");
             }
-            initialUserProfileData = new UserProfile();
         } catch (Exception e) {
-            logger.warning("Data file at " + storage.getPolicyBookFilePath() + " could not be loaded."
+            logger.warning("Data file at " + storage.getUserProfileFilePath() + " could not be loaded."
                     + " Will be starting with a default user profile.");
-            initialUserProfileData = new UserProfile();
         }
+        return new UserProfile();
+    }
 
-        return new ModelManager(initialAddressBookData, initialPolicyBookData, userPrefs,
-                initialUserProfileData, storage);
+    /**
+     * Runs {@code phase}, logs how long it took and returns its result.
+     */
+    private static <T> T logDuration(String phaseName, Supplier<T> phase) {
+        long startTime = System.nanoTime();
+        T result = phase.get();
+        logger.info(String.format("%s in %d ms", phaseName,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return result;
+    }
+
+    /**
+     * Makes {@code commandStats} readable through JMX, or logs a warning if it cannot be.
+     */
+    private static void registerMBean(CommandStats commandStats) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(commandStats,
+                    new ObjectName(COMMAND_STATS_MBEAN_NAME));
+        } catch (JMException e) {
+            logger.warning("Command stats could not be registered with JMX: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static long getUptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
     }
 
     private void initLogging(Config config) {
@@ -215,11 +302,21 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ClientNest" + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info(String.format("Showed main window %d ms after launch", getUptimeMillis()));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClientNest ] =============================");
+        try {
+            writeBehindSaver.close();
+        } catch (IOException e) {
+            logger.warning("Failed to write pending saves " + StringUtil.getDetails(e));
+        }
+        if (model == null) {
+            logger.info("Stopped before the data was loaded, so there is no data to save");
+            return;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
             storage.saveAddressBook(model.getAddressBook());
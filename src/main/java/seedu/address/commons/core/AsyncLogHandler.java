@@ -0,0 +1,230 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a background thread, so that logging never waits
+ * for the console or a file to be written.
+ * Publishing a record only adds it to a bounded {@code RingBuffer}. What happens when the buffer is full is decided by
+ * its {@link OverflowPolicy}, and the number of records dropped is logged once there is room again.
+ * Closing the handler, which {@code LogManager} does when the JVM shuts down, writes out the records still in the
+ * buffer and closes the other handlers.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Waits for the background thread to make room, so that no record is lost. */
+        BLOCK,
+        /** Drops the record being published. */
+        DROP_NEWEST,
+        /** Drops the oldest record in the buffer to make room for the record being published. */
+        DROP_OLDEST
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    public static final String MESSAGE_RECORDS_DROPPED = "%d log records were dropped because the log buffer was full";
+
+    /** How long the background thread waits for new records before checking the buffer again anyway. */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_BUFFER_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final List<Handler> targets;
+    private final RingBuffer<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong handledCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isWriterWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes records on to {@code targets} in the order they are published,
+     * holding up to {@code capacity} records, which must be a power of two.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        this.targets = List.copyOf(targets);
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+
+        writer = new Thread(this::writeUntilClosed, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Adds {@code record} to the buffer to be passed on by the background thread, or passes it on directly if this
+     * handler has been closed.
+     * The class that logged the record is taken to be the one the logger is named after, so that the stack of the
+     * logging thread does not need to be walked to find it.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+
+        if (isClosed) {
+            writeToTargets(record);
+            return;
+        }
+
+        if (enqueue(record)) {
+            acceptedCount.incrementAndGet();
+            if (isWriterWaiting) {
+                LockSupport.unpark(writer);
+            }
+        }
+    }
+
+    private boolean enqueue(LogRecord record) {
+        while (!buffer.offer(record)) {
+            switch (overflowPolicy) {
+            case BLOCK:
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(FULL_BUFFER_WAIT_NANOS);
+                if (isClosed) {
+                    writeToTargets(record);
+                    return false;
+                }
+                break;
+            case DROP_OLDEST:
+                if (buffer.poll() != null) {
+                    handledCount.incrementAndGet();
+                    droppedCount.incrementAndGet();
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the records published so far to be passed on, then flushes the other handlers.
+     */
+    @Override
+    public void flush() {
+        long target = acceptedCount.get();
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        while (handledCount.get() < target && writer.isAlive() && System.currentTimeMillis() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FULL_BUFFER_WAIT_NANOS);
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes out the records still in the buffer, stops the background thread and closes the other handlers.
+     * Records published afterwards are passed on directly.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeBuffered();
+        targets.forEach(Handler::close);
+    }
+
+    private void writeUntilClosed() {
+        while (!isClosed) {
+            writeBuffered();
+            isWriterWaiting = true;
+            if (buffer.isEmpty() && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+            }
+            isWriterWaiting = false;
+        }
+        writeBuffered();
+    }
+
+    /**
+     * Passes on the records in the buffer, and reports any records dropped before them.
+     */
+    private void writeBuffered() {
+        boolean hasWritten = false;
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            reportDroppedRecords();
+            writeToTargets(record);
+            handledCount.incrementAndGet();
+            hasWritten = true;
+        }
+        if (reportDroppedRecords() || hasWritten) {
+            targets.forEach(Handler::flush);
+        }
+    }
+
+    /**
+     * Logs the number of records dropped since the last report, if any, and returns true if it did.
+     */
+    private boolean reportDroppedRecords() {
+        long dropped = droppedCount.get() - reportedDroppedCount;
+        if (dropped <= 0) {
+            return false;
+        }
+
+        reportedDroppedCount += dropped;
+        LogRecord warning = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+        warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        warning.setSourceClassName(AsyncLogHandler.class.getName());
+        writeToTargets(warning);
+        return true;
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Could not pass on a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
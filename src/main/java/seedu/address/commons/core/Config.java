@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -16,6 +17,7 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP_NEWEST;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
     public Level getLogLevel() {
@@ -26,6 +28,17 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what is done with a log message when too many messages are waiting to be written.
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -47,18 +60,20 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
                 && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .add("userPrefsFilePath", userPrefsFilePath)
                 .toString();
     }
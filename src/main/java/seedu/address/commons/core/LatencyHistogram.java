@@ -0,0 +1,109 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds, with buckets whose width grows with the latencies they count.
+ * Each power of two is split into {@value #SUB_BUCKET_COUNT} buckets of equal width, so a percentile is never more
+ * than about 3% above the latency it stands for, however large the latencies are.
+ * The buckets are allocated once, so recording a latency creates no objects. Latencies may be recorded and read by
+ * different threads at the same time, in which case a reading may miss the latencies being recorded.
+ */
+public class LatencyHistogram {
+
+    /** The number of buckets each power of two is split into. */
+    public static final int SUB_BUCKET_COUNT = 32;
+
+    /** Latencies above this, about two and a half hours, are counted in the last bucket. */
+    public static final long HIGHEST_TRACKABLE_LATENCY = (1L << 43) - 1;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_LATENCY) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Counts one occurrence of {@code latencyNanos}. Negative latencies are counted as 0.
+     */
+    public void record(long latencyNanos) {
+        long latency = Math.min(Math.max(latencyNanos, 0), HIGHEST_TRACKABLE_LATENCY);
+        counts.incrementAndGet(indexOf(latency));
+        totalCount.incrementAndGet();
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the highest latency recorded, or 0 if there is none.
+     */
+    public long getMax() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Returns the latency in nanoseconds that {@code percent} percent of the recorded latencies are at most, rounded
+     * up to the highest latency of its bucket but never above {@link #getMax()}. Returns 0 if there is no latency.
+     */
+    public long getPercentile(double percent) {
+        assert percent > 0 && percent <= 100;
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestLatencyOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Forgets all the latencies recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        maxLatency.set(0);
+    }
+
+    /**
+     * Returns the index of the bucket that counts {@code latency}.
+     * Latencies below {@value #SUB_BUCKET_COUNT} have a bucket each, and the buckets above are
+     * {@code 2^shift} wide, where {@code shift} grows by one with each power of two.
+     */
+    static int indexOf(long latency) {
+        if (latency < SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(latency) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (latency >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the highest latency counted by the bucket at {@code index}.
+     */
+    static long highestLatencyOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowestLatency = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowestLatency + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded first-in first-out queue that any number of threads may add to and take from at the same time without
+ * locking.
+ * Each slot of the buffer has a sequence number that tells whether it is ready to be written or read in the current
+ * lap around the buffer, so that a thread claims a slot with a single compare-and-set of the position it is at.
+ *
+ * @param <T> the type of the items in the buffer.
+ */
+public class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tailPosition = new AtomicLong();
+    private final AtomicLong headPosition = new AtomicLong();
+
+    /**
+     * Creates an empty {@code RingBuffer} that holds up to {@code capacity} items.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is not a positive power of two.
+     */
+    public RingBuffer(int capacity) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "Capacity must be a positive power of two");
+        mask = capacity - 1;
+        items = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds {@code item} at the tail of the buffer and returns true, or returns false if the buffer is full.
+     */
+    public boolean offer(T item) {
+        assert item != null;
+        while (true) {
+            long position = tailPosition.get();
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+            if (lag < 0) {
+                return false;
+            }
+            if (lag == 0 && tailPosition.compareAndSet(position, position + 1)) {
+                items.set(index, item);
+                sequences.set(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the item at the head of the buffer, or returns null if the buffer is empty.
+     */
+    public T poll() {
+        while (true) {
+            long position = headPosition.get();
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - (position + 1);
+            if (lag < 0) {
+                return null;
+            }
+            if (lag == 0 && headPosition.compareAndSet(position, position + 1)) {
+                T item = items.getAndSet(index, null);
+                sequences.set(index, position + mask + 1);
+                return item;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the buffer holds no items. The answer may be out of date by the time it is returned if other
+     * threads are using the buffer.
+     */
+    public boolean isEmpty() {
+        return headPosition.get() >= tailPosition.get();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts between lines of comma-separated values (CSV) and their fields.
+ * A field may be enclosed in double quotes, in which case it may contain commas, and a double quote in it is
+ * written as two double quotes. Each record must be on a single line.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed on the same line";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of the CSV record on {@code line}.
+     * Unquoted fields are returned exactly as they appear, including any spaces around them.
+     *
+     * @throws IllegalValueException if a quoted field is not closed before the end of {@code line}.
+     */
+    public static List<String> parseRecord(String line) throws IllegalValueException {
+        requireNonNull(line);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int position = 0;
+        while (true) {
+            if (position < line.length() && line.charAt(position) == QUOTE) {
+                position = readQuotedField(line, position + 1, field);
+            }
+            while (position < line.length() && line.charAt(position) != SEPARATOR) {
+                field.append(line.charAt(position++));
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+
+            if (position >= line.length()) {
+                return fields;
+            }
+            position++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends the quoted field that starts at {@code start} of {@code line}, just after its opening quote, to
+     * {@code field}, and returns the position just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int position = start;
+        while (position < line.length()) {
+            char c = line.charAt(position++);
+            if (c != QUOTE) {
+                field.append(c);
+            } else if (position < line.length() && line.charAt(position) == QUOTE) {
+                field.append(QUOTE);
+                position++;
+            } else {
+                return position;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+    }
+
+    /**
+     * Returns {@code fields} as a line of CSV, without a line separator.
+     * Fields that contain commas, double quotes or line breaks are quoted.
+     */
+    public static String formatRecord(List<String> fields) {
+        requireNonNull(fields);
+
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1;
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +13,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +28,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -77,6 +84,57 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the JSON object in the given file and passes each element of its array field {@code arrayFieldName}
+     * to {@code elementHandler} as soon as the element is parsed.
+     * Unlike {@link #readJsonFile(Path, Class)}, neither the whole file nor all the elements are held in memory at
+     * once. Other fields of the object are skipped.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be read or is not a valid JSON object with that array field.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> void readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            readJsonArrayElements(inputStream, arrayFieldName, elementClass, elementHandler);
+        }
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayElements(Path, String, Class, ElementHandler)}, but reads from
+     * {@code inputStream}, which is left open.
+     */
+    public static <T> void readJsonArrayElements(InputStream inputStream, String arrayFieldName,
+            Class<T> elementClass, ElementHandler<T> elementHandler) throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            boolean isArrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals(arrayFieldName)) {
+                    isArrayFound = true;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (!isArrayFound) {
+                throw new JsonParseException(parser, "Expected an array field named " + arrayFieldName);
+            }
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -111,6 +169,43 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes {@code instance} to {@code writer} as JSON on a single line, followed by a line separator.
+     * Unlike {@link #toJsonLine(Object)}, the JSON is written straight to {@code writer}, which is neither flushed
+     * nor closed, so that many instances can be written to one buffered writer.
+     */
+    public static <T> void writeJsonLine(Writer writer, T instance) throws IOException {
+        requireNonNull(writer);
+        objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .writeValue(writer, instance);
+        writer.write(System.lineSeparator());
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArrayElements(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles one element, which is not used again after this method returns.
+         *
+         * @throws IllegalValueException if the element is not valid.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -38,6 +38,22 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with each character case-folded the same way {@link String#equalsIgnoreCase(String)}
+     * compares characters, so that {@code a.equalsIgnoreCase(b)} holds exactly when the folded strings are equal.
+     * Folded strings are suitable as keys of hash-based indexes.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
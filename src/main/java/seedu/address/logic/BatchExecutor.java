@@ -0,0 +1,189 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ClientNestParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.JsonLines;
+import seedu.address.storage.Storage;
+
+/**
+ * Executes a script of commands against a {@code Model}, one command per line.
+ * Unlike {@link LogicManager#execute(String)}, the books are not saved after every command, but only after every
+ * {@code checkpointInterval} successful commands, if checkpoints are enabled, and once at the end of the script.
+ * A command that fails is reported and skipped, and the rest of the script is still executed.
+ * The {@code BackgroundTask} of a command, if any, is run before the next command is executed.
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are ignored.
+ */
+public class BatchExecutor {
+
+    public static final int NO_CHECKPOINTS = 0;
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_COMMAND_SUCCESS = "Line %d: OK in %.3f ms";
+    public static final String MESSAGE_COMMAND_FAILURE = "Line %d: FAILED in %.3f ms: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchExecutor.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final ClientNestParser clientNestParser =
+            new ClientNestParser(JsonLines::writePerson, JsonLines::writePolicy);
+
+    /**
+     * Creates a {@code BatchExecutor} that executes commands against {@code model} and saves it to {@code storage}
+     * after every {@code checkpointInterval} successful commands, or only at the end if it is
+     * {@link #NO_CHECKPOINTS}.
+     */
+    public BatchExecutor(Model model, Storage storage, int checkpointInterval) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        assert checkpointInterval >= 0;
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Executes the commands in {@code scriptLines} in order, passing one line about each command to
+     * {@code reporter}, and returns a summary of the run.
+     *
+     * @throws IOException if the books could not be saved, in which case the rest of the script is not executed.
+     */
+    public Summary execute(List<String> scriptLines, Consumer<String> reporter) throws IOException {
+        requireNonNull(scriptLines);
+        requireNonNull(reporter);
+
+        long[] latencies = new long[scriptLines.size()];
+        int commandCount = 0;
+        int failureCount = 0;
+        int successesSinceSave = 0;
+        int saveCount = 0;
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < scriptLines.size(); i++) {
+            String commandText = scriptLines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            long commandStartTime = System.nanoTime();
+            String failure = execute(commandText);
+            long latency = System.nanoTime() - commandStartTime;
+            latencies[commandCount++] = latency;
+
+            if (failure != null) {
+                failureCount++;
+                reporter.accept(String.format(MESSAGE_COMMAND_FAILURE, i + 1, toMillis(latency), failure));
+                continue;
+            }
+            reporter.accept(String.format(MESSAGE_COMMAND_SUCCESS, i + 1, toMillis(latency)));
+
+            successesSinceSave++;
+            if (checkpointInterval != NO_CHECKPOINTS && successesSinceSave == checkpointInterval) {
+                save();
+                saveCount++;
+                successesSinceSave = 0;
+            }
+        }
+
+        if (successesSinceSave > 0) {
+            save();
+            saveCount++;
+        }
+        return new Summary(Arrays.copyOf(latencies, commandCount), failureCount, saveCount,
+                System.nanoTime() - startTime);
+    }
+
+    /**
+     * Executes {@code commandText} and returns the reason it failed, or null if it succeeded.
+     */
+    private String execute(String commandText) {
+        try {
+            CommandResult commandResult = clientNestParser.parseCommand(commandText).execute(model);
+            if (commandResult.getBackgroundTask().isPresent()) {
+                commandResult.getBackgroundTask().get().run(logger::fine);
+            }
+            return null;
+        } catch (ParseException | CommandException e) {
+            return e.getMessage();
+        } finally {
+            model.commitChanges();
+        }
+    }
+
+    private void save() throws IOException {
+        logger.fine("Saving the books after a batch of commands");
+        storage.saveAddressBook(model.getAddressBook());
+        storage.savePolicyBook(model.getPolicyBook());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The number of commands executed and failed in a run of a script, with their latencies and throughput.
+     */
+    public static class Summary {
+        private final long[] sortedLatencies;
+        private final int failureCount;
+        private final int saveCount;
+        private final long totalNanos;
+
+        Summary(long[] latencies, int failureCount, int saveCount, long totalNanos) {
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+            this.failureCount = failureCount;
+            this.saveCount = saveCount;
+            this.totalNanos = totalNanos;
+        }
+
+        public int getCommandCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        /**
+         * Returns the latency in nanoseconds that {@code percent} percent of the commands took at most.
+         */
+        public long getLatencyPercentile(double percent) {
+            assert percent > 0 && percent <= 100;
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100 * sortedLatencies.length);
+            return sortedLatencies[rank - 1];
+        }
+
+        @Override
+        public String toString() {
+            double totalMillis = toMillis(totalNanos);
+            double throughput = totalNanos == 0 ? 0 : getCommandCount() / (totalMillis / 1000);
+            return String.format("Executed %d commands (%d failed) with %d saves in %.1f ms, %.1f commands/s. "
+                    + "Latency: median %.3f ms, 99th percentile %.3f ms, max %.3f ms",
+                    getCommandCount(), failureCount, saveCount, totalMillis, throughput,
+                    toMillis(getLatencyPercentile(50)), toMillis(getLatencyPercentile(99)),
+                    toMillis(getLatencyPercentile(100)));
+        }
+    }
+}
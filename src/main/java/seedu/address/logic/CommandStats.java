@@ -0,0 +1,175 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.logic.parser.CommandWordTrie;
+
+/**
+ * The latencies of the stages of the commands executed, kept in a {@code LatencyHistogram} for each stage of each
+ * command word. Commands that do not start with a known command word are counted under
+ * {@value #UNKNOWN_COMMAND_WORD}.
+ * The histograms are all created up front and the command word of a command is looked up in place, so recording a
+ * latency creates no objects.
+ */
+public class CommandStats implements CommandStatsMBean {
+
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String MESSAGE_SUMMARY_HEADER = "Latencies in ms (median / 90th percentile / 99th percentile"
+            + " / max):";
+
+    private static final List<Stage> STAGES = List.of(Stage.values());
+
+    private final CommandWordTrie<LatencyHistogram[]> histogramsByCommandWord = new CommandWordTrie<>();
+    private final LatencyHistogram[] unknownCommandHistograms = createHistograms();
+
+    /**
+     * Creates a {@code CommandStats} that keeps the latencies of each of {@code commandWords} separately.
+     */
+    public CommandStats(Collection<String> commandWords) {
+        requireNonNull(commandWords);
+        commandWords.forEach(commandWord -> histogramsByCommandWord.put(commandWord, createHistograms()));
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[STAGES.size()];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Records that the {@code stage} of the command {@code commandText} took {@code latencyNanos}.
+     */
+    public void record(String commandText, Stage stage, long latencyNanos) {
+        histogramsOf(commandText)[stage.ordinal()].record(latencyNanos);
+    }
+
+    /**
+     * Returns the histograms of the command word that {@code commandText} starts with, looked up without creating
+     * any objects.
+     */
+    private LatencyHistogram[] histogramsOf(String commandText) {
+        int start = 0;
+        while (start < commandText.length() && Character.isWhitespace(commandText.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < commandText.length() && !Character.isWhitespace(commandText.charAt(end))) {
+            end++;
+        }
+        return histogramsByCommandWord.getOrDefault(commandText, start, end, unknownCommandHistograms);
+    }
+
+    private LatencyHistogram[] histogramsOfCommandWord(String commandWord) {
+        requireNonNull(commandWord);
+        if (commandWord.equals(UNKNOWN_COMMAND_WORD)) {
+            return unknownCommandHistograms;
+        }
+        LatencyHistogram[] histograms = histogramsByCommandWord.get(commandWord).orElse(null);
+        checkArgument(histograms != null, "Unknown command word: " + commandWord);
+        return histograms;
+    }
+
+    /**
+     * Returns the latency in nanoseconds that {@code percent} percent of the {@code stage} stages of the commands
+     * starting with {@code commandWord} took at most, or 0 if there is no such stage yet.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not a command word.
+     */
+    public long getLatencyPercentile(String commandWord, Stage stage, double percent) {
+        requireNonNull(stage);
+        checkArgument(percent > 0 && percent <= 100, "Percent must be above 0 and at most 100");
+        return histogramsOfCommandWord(commandWord)[stage.ordinal()].getPercentile(percent);
+    }
+
+    @Override
+    public long getLatencyPercentileNanos(String commandWord, String stageName, double percent) {
+        requireNonNull(stageName);
+        return getLatencyPercentile(commandWord, Stage.valueOf(stageName), percent);
+    }
+
+    @Override
+    public long getCommandCount(String commandWord) {
+        return histogramsOfCommandWord(commandWord)[Stage.PARSE.ordinal()].getCount();
+    }
+
+    @Override
+    public void reset() {
+        resetAll(unknownCommandHistograms);
+        histogramsByCommandWord.getCommandWordsStartingWith("").forEach(commandWord ->
+                resetAll(histogramsOfCommandWord(commandWord)));
+    }
+
+    private static void resetAll(LatencyHistogram[] histograms) {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (String commandWord : histogramsByCommandWord.getCommandWordsStartingWith("")) {
+            appendSummary(summary, commandWord, histogramsOfCommandWord(commandWord));
+        }
+        appendSummary(summary, UNKNOWN_COMMAND_WORD, unknownCommandHistograms);
+
+        if (summary.length() == 0) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        return MESSAGE_SUMMARY_HEADER + summary;
+    }
+
+    private static void appendSummary(StringBuilder summary, String commandWord, LatencyHistogram[] histograms) {
+        long commandCount = histograms[Stage.PARSE.ordinal()].getCount();
+        if (commandCount == 0) {
+            return;
+        }
+
+        summary.append(String.format("%n%s (%d)", commandWord, commandCount));
+        for (Stage stage : STAGES) {
+            LatencyHistogram histogram = histograms[stage.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            summary.append(String.format("%n  %s: %.3f / %.3f / %.3f / %.3f", stage,
+                    toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(90)),
+                    toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * A stage of executing a command, from parsing the command text to showing the result.
+     */
+    public enum Stage {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        ADDRESS_BOOK_SAVE("address book save"),
+        POLICY_BOOK_SAVE("policy book save"),
+        UI_REFRESH("UI refresh");
+
+        private final String description;
+
+        Stage(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
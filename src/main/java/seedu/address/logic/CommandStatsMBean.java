@@ -0,0 +1,36 @@
+package seedu.address.logic;
+
+/**
+ * The JMX management interface of {@link CommandStats}, through which the latencies of the commands can be read by
+ * tools such as JConsole while the app is running.
+ */
+public interface CommandStatsMBean {
+
+    /**
+     * Returns the percentiles of the latencies of each stage of each command word that has been executed, as shown by
+     * the {@code stats} command.
+     */
+    String getSummary();
+
+    /**
+     * Returns the number of commands starting with {@code commandWord} that have been executed.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not a command word.
+     */
+    long getCommandCount(String commandWord);
+
+    /**
+     * Returns the latency in nanoseconds that {@code percent} percent of the {@code stageName} stages of the commands
+     * starting with {@code commandWord} took at most, or 0 if there is no such stage yet.
+     *
+     * @param stageName the name of a {@link CommandStats.Stage}, such as {@code EXECUTE}.
+     * @throws IllegalArgumentException if {@code commandWord} is not a command word, {@code stageName} is not the
+     *     name of a stage, or {@code percent} is not above 0 and at most 100.
+     */
+    long getLatencyPercentileNanos(String commandWord, String stageName, double percent);
+
+    /**
+     * Forgets all the latencies recorded.
+     */
+    void reset();
+}
@@ -0,0 +1,235 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindPolicyCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyContainsKeywordsPredicate;
+
+/**
+ * Filters the person or policy list while a {@code find} or {@code findpolicy} command is being typed, before it is
+ * entered.
+ * Once the text has stopped changing for a while, the matches are found on a background thread in a snapshot of the
+ * list, which is taken again only after the list changes. Newer text cancels the searches started for older text, so
+ * only the matches for the latest text are shown, as a single change to the filtered list.
+ * Once the text is no longer such a command, the filter that the list had before its matches were first shown is
+ * put back, unless the filter was changed since, as by entering the command.
+ */
+public class LiveSearch {
+
+    /** How long the text must stay the same before it is searched for. */
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    /** How many items are tested between checks of whether the search has been cancelled. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Executor resultPublisher;
+    private final long debounceMillis;
+    private final ScheduledExecutorService searcher;
+    private final AtomicLong latestSearch = new AtomicLong();
+    private final SearchTarget<Person> persons;
+    private final SearchTarget<Policy> policies;
+    private ScheduledFuture<?> pendingSearch;
+
+    /**
+     * Creates a {@code LiveSearch} that filters the lists of {@code model}, changing them through
+     * {@code resultPublisher}, which must run tasks on the thread that owns the model.
+     */
+    public LiveSearch(Model model, Executor resultPublisher) {
+        this(model, resultPublisher, DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that waits {@code debounceMillis} ms for the text to stop changing.
+     */
+    LiveSearch(Model model, Executor resultPublisher, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(resultPublisher);
+        this.resultPublisher = resultPublisher;
+        this.debounceMillis = debounceMillis;
+        searcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        persons = new SearchTarget<>(() -> model.getAddressBook().getPersonList(),
+                () -> model.getAddressBook().getVersion(), model::getFilteredPersonListPredicate,
+                model::updateFilteredPersonList);
+        policies = new SearchTarget<>(() -> model.getPolicyBook().getPolicyList(),
+                () -> model.getPolicyBook().getVersion(), model::getFilteredPolicyListPredicate,
+                model::updateFilteredPolicyList);
+    }
+
+    /**
+     * Cancels the searches started so far, and starts searching for the keywords of {@code commandText} if it is a
+     * {@code find} or {@code findpolicy} command with keywords. The lists that {@code commandText} is not a search of
+     * get back the filters they had before their matches were shown.
+     * Must be called on the thread that owns the model.
+     */
+    public void search(String commandText) {
+        requireNonNull(commandText);
+        long search = latestSearch.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+
+        String[] commandWordAndArguments = commandText.trim().split("\\s+", 2);
+        String commandWord = commandWordAndArguments.length < 2 ? "" : commandWordAndArguments[0];
+        if (!commandWord.equals(FindCommand.COMMAND_WORD)) {
+            persons.restoreFilter();
+        }
+        if (!commandWord.equals(FindPolicyCommand.COMMAND_WORD)) {
+            policies.restoreFilter();
+        }
+        if (commandWord.isEmpty()) {
+            return;
+        }
+        List<String> keywords = Arrays.asList(commandWordAndArguments[1].split("\\s+"));
+        switch (commandWord) {
+        case FindCommand.COMMAND_WORD:
+            schedule(search, commandText, persons, new NameContainsKeywordsPredicate(keywords));
+            break;
+        case FindPolicyCommand.COMMAND_WORD:
+            schedule(search, commandText, policies, new PolicyContainsKeywordsPredicate(keywords));
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Cancels the searches started so far, without starting another, and puts back the filters that the lists had
+     * before their matches were shown.
+     */
+    public void cancel() {
+        search("");
+    }
+
+    private <T> void schedule(long search, String commandText, SearchTarget<T> target, Predicate<T> predicate) {
+        List<T> snapshot = target.getSnapshot();
+        long version = target.snapshotVersion;
+        pendingSearch = searcher.schedule(() -> {
+            Set<T> matches = findMatches(search, snapshot, predicate);
+            if (matches != null) {
+                resultPublisher.execute(() -> publish(search, commandText, target, version, matches));
+            }
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the items of {@code snapshot} that match {@code predicate}, or null if a newer search was started
+     * before they were all tested.
+     */
+    private <T> Set<T> findMatches(long search, List<T> snapshot, Predicate<T> predicate) {
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && latestSearch.get() != search) {
+                return null;
+            }
+            T item = snapshot.get(i);
+            if (predicate.test(item)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Shows only {@code matches} in the filtered list of {@code target}, unless a newer search was started.
+     * If the list changed since its snapshot was taken, it is searched again instead.
+     */
+    private <T> void publish(long search, String commandText, SearchTarget<T> target, long version, Set<T> matches) {
+        if (latestSearch.get() != search) {
+            return;
+        }
+        if (target.version.getAsLong() != version) {
+            search(commandText);
+            return;
+        }
+        target.showMatches(matches);
+    }
+
+    /**
+     * A list of the model that can be searched, with the snapshot of it taken for the latest search, and the filter
+     * that it had before the matches of a search were shown in it.
+     */
+    private static class SearchTarget<T> {
+        private final Supplier<List<T>> list;
+        private final LongSupplier version;
+        private final Supplier<Predicate<? super T>> filter;
+        private final Consumer<Predicate<T>> filterUpdater;
+        private List<T> snapshot;
+        private long snapshotVersion;
+        /** The filter showing the matches of the latest search, or null if none are shown. */
+        private Predicate<T> matchFilter;
+        private Predicate<? super T> filterBeforeMatches;
+
+        SearchTarget(Supplier<List<T>> list, LongSupplier version, Supplier<Predicate<? super T>> filter,
+                Consumer<Predicate<T>> filterUpdater) {
+            this.list = list;
+            this.version = version;
+            this.filter = filter;
+            this.filterUpdater = filterUpdater;
+        }
+
+        /**
+         * Shows only {@code matches} in the list, keeping the filter it had before, unless the list already shows the
+         * matches of a search.
+         */
+        void showMatches(Set<T> matches) {
+            if (!isShowingMatches()) {
+                filterBeforeMatches = filter.get();
+            }
+            matchFilter = matches::contains;
+            filterUpdater.accept(matchFilter);
+        }
+
+        /**
+         * Puts back the filter that the list had before the matches of a search were shown, if they are still shown.
+         */
+        void restoreFilter() {
+            if (isShowingMatches()) {
+                filterUpdater.accept(filterBeforeMatches::test);
+            }
+            matchFilter = null;
+            filterBeforeMatches = null;
+        }
+
+        private boolean isShowingMatches() {
+            return matchFilter != null && filter.get() == matchFilter;
+        }
+
+        /**
+         * Returns a copy of the list, copying it again only if it changed since the last copy.
+         */
+        List<T> getSnapshot() {
+            long currentVersion = version.getAsLong();
+            if (snapshot == null || snapshotVersion != currentVersion) {
+                snapshot = List.copyOf(list.get());
+                snapshotVersion = currentVersion;
+            }
+            return snapshot;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +11,7 @@ import seedu.address.commons.core.user.UserProfile;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelChangeEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.person.Person;
@@ -26,6 +30,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Records that the UI took {@code latencyNanos} to show the result of executing {@code commandText}, from the
+     * end of its execution to the end of the layout pass that followed.
+     */
+    void recordUiRefresh(String commandText, long latencyNanos);
+
+    /**
+     * Passes the message of every save that fails after its command has returned to {@code saveFailureHandler}, on
+     * the thread that saves. Saves made before a command returns fail the command instead.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    List<String> getCommandWordCompletions(String prefix);
+
     /**
      * Returns the AddressBook.
      *
@@ -80,4 +101,22 @@ public interface Logic {
      * Returns the list of persons with upcoming birthdays in the next 30 days.
      */
     ObservableList<Person> getUpcomingBirthdays();
+
+    /**
+     * Recomputes the list of upcoming birthdays from today's date.
+     */
+    void updateUpcomingBirthdays();
+
+    /**
+     * Calls {@code listener} with every later change of type {@code eventType} made to the model.
+     *
+     * @see seedu.address.model.Model#subscribe(Class, Consumer)
+     */
+    <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener);
+
+    /**
+     * Returns a {@code LiveSearch} that filters the lists of the model while a find command is being typed,
+     * changing them through {@code resultPublisher}.
+     */
+    LiveSearch createLiveSearch(Executor resultPublisher);
 }
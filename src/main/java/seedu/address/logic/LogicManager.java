@@ -1,25 +1,35 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.CommandStats.Stage;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ClientNestParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.policy.Policy;
+import seedu.address.storage.JsonLines;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -34,37 +44,106 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final WriteBehindSaver writeBehindSaver;
     private final ClientNestParser clientNestParser;
+    private final CommandStats commandStats;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code WriteBehindSaver}.
+     * If {@code writeBehindSaver} is not null, data is saved by it in the background instead, and a failed save is
+     * reported to the handler set with {@link #setSaveFailureHandler}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver writeBehindSaver) {
         this.model = model;
         this.storage = storage;
-        clientNestParser = new ClientNestParser();
+        this.writeBehindSaver = writeBehindSaver;
+        clientNestParser = new ClientNestParser(JsonLines::writePerson, JsonLines::writePolicy);
+        clientNestParser.registerCommand(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(getCommandStats()));
+        commandStats = new CommandStats(clientNestParser.getCommandWordCompletions(""));
+    }
+
+    /**
+     * Returns the latencies of the commands executed so far.
+     */
+    public CommandStats getCommandStats() {
+        return commandStats;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        long stageStartTime = System.nanoTime();
+        Command command;
+        try {
+            command = clientNestParser.parseCommand(commandText);
+        } finally {
+            stageStartTime = recordStage(commandText, Stage.PARSE, stageStartTime);
+        }
+
         CommandResult commandResult;
-        Command command = clientNestParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitChanges();
+            stageStartTime = recordStage(commandText, Stage.EXECUTE, stageStartTime);
+        }
+
+        if (writeBehindSaver != null) {
+            writeBehindSaver.saveAddressBook(model.getAddressBook());
+            stageStartTime = recordStage(commandText, Stage.ADDRESS_BOOK_SAVE, stageStartTime);
+            writeBehindSaver.savePolicyBook(model.getPolicyBook());
+            recordStage(commandText, Stage.POLICY_BOOK_SAVE, stageStartTime);
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
+            stageStartTime = recordStage(commandText, Stage.ADDRESS_BOOK_SAVE, stageStartTime);
             storage.savePolicyBook(model.getPolicyBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            recordStage(commandText, Stage.POLICY_BOOK_SAVE, stageStartTime);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Records the time since {@code stageStartTime} as the latency of the {@code stage} of {@code commandText}, and
+     * returns the current time, at which the next stage starts.
+     */
+    private long recordStage(String commandText, Stage stage, long stageStartTime) {
+        long now = System.nanoTime();
+        commandStats.record(commandText, stage, now - stageStartTime);
+        return now;
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public void recordUiRefresh(String commandText, long latencyNanos) {
+        commandStats.record(commandText, Stage.UI_REFRESH, latencyNanos);
+    }
+
+    @Override
+    public List<String> getCommandWordCompletions(String prefix) {
+        return clientNestParser.getCommandWordCompletions(prefix);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -119,4 +198,28 @@ public class LogicManager implements Logic {
     public ObservableList<Person> getUpcomingBirthdays() {
         return model.getUpcomingBirthdays();
     }
+
+    @Override
+    public void updateUpcomingBirthdays() {
+        model.updateUpcomingBirthdays();
+    }
+
+    @Override
+    public <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener) {
+        model.subscribe(eventType, listener);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        if (writeBehindSaver != null) {
+            writeBehindSaver.setFailureHandler(failure ->
+                    saveFailureHandler.accept(toCommandException(failure).getMessage()));
+        }
+    }
+
+    @Override
+    public LiveSearch createLiveSearch(Executor resultPublisher) {
+        return new LiveSearch(model, resultPublisher);
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,6 +55,20 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the names of {@code persons} as a comma-separated list for display to the user.
+     */
+    public static String formatNames(Collection<Person> persons) {
+        return persons.stream().map(person -> person.getName().toString()).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Formats the names of {@code policies} as a comma-separated list for display to the user.
+     */
+    public static String formatPolicyNames(Collection<Policy> policies) {
+        return policies.stream().map(policy -> policy.getPolicyName().toString()).collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the {@code person} for display to the user when editing premiums.
      */
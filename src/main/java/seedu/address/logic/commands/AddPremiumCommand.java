@@ -121,10 +121,10 @@ public class AddPremiumCommand extends Command {
         Address address = personToEdit.getAddress();
         Birthday birthday = personToEdit.getBirthday();
         Set<Tag> tagList = personToEdit.getTags();
-        PremiumList premiumList = personToEdit.getPremiumList();
+        PremiumList premiumList = new PremiumList(personToEdit.getPremiumList().premiumList);
         premiumList.addAll(premiumListToAdd);
 
-        return new Person(name, phone, email, address, birthday, premiumList, tagList);
+        return new Person(personToEdit.getId(), name, phone, email, address, birthday, premiumList, tagList);
     }
 
     @Override
@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Work that a command leaves to be done after it has been executed, such as writing a large file.
+ * The task does not access the model, so it can be run on any thread while other commands are executed.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Does the work, passing messages about its progress to {@code progressReporter}, and returns the feedback to
+     * be shown to the user once it is done.
+     *
+     * @throws CommandException if the work could not be done.
+     */
+    String run(Consumer<String> progressReporter) throws CommandException;
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -12,23 +13,34 @@ import seedu.address.model.Model;
 import seedu.address.model.policy.Policy;
 
 /**
- * Deletes a policy identified using it's displayed index from the policy book.
+ * Deletes the policies identified using their displayed indexes from the policy book.
  */
 public class DeletePolicyCommand extends Command {
 
     public static final String COMMAND_WORD = "deletepolicy";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the policy identified by the index number used in the displayed policy list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the policies identified by the index numbers used in the displayed policy list.\n"
+            + "Parameters: INDEX[,INDEX]... (each a positive integer, or a range such as 3-250)\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 1,4,9-12";
 
     public static final String MESSAGE_DELETE_POLICY_SUCCESS = "Deleted Policy: %1$s";
+    public static final String MESSAGE_DELETE_POLICIES_SUCCESS = "Deleted %1$d Policies: %2$s";
 
-    private final Index targetIndex;
+    private final List<Index> targetIndexes;
 
     public DeletePolicyCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a DeletePolicyCommand to delete the policies at {@code targetIndexes} of the displayed policy list.
+     */
+    public DeletePolicyCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty();
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     @Override
@@ -36,13 +48,24 @@ public class DeletePolicyCommand extends Command {
         requireNonNull(model);
         List<Policy> lastShownList = model.getFilteredPolicyList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_POLICY_DISPLAYED_INDEX);
+        List<Policy> policiesToDelete = new ArrayList<>(targetIndexes.size());
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_POLICY_DISPLAYED_INDEX);
+            }
+            policiesToDelete.add(lastShownList.get(targetIndex.getZeroBased()));
+        }
+
+        if (policiesToDelete.size() == 1) {
+            Policy policyToDelete = policiesToDelete.get(0);
+            model.deletePolicy(policyToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_POLICY_SUCCESS,
+                    Messages.formatPolicy(policyToDelete)));
         }
 
-        Policy policyToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePolicy(policyToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_POLICY_SUCCESS, Messages.formatPolicy(policyToDelete)));
+        model.deletePolicies(policiesToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_POLICIES_SUCCESS, policiesToDelete.size(),
+                Messages.formatPolicyNames(policiesToDelete)));
     }
 
     @Override
@@ -57,13 +80,13 @@ public class DeletePolicyCommand extends Command {
         }
 
         DeletePolicyCommand otherDeletePolicyCommand = (DeletePolicyCommand) other;
-        return targetIndex.equals(otherDeletePolicyCommand.targetIndex);
+        return targetIndexes.equals(otherDeletePolicyCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
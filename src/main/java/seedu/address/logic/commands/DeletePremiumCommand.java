@@ -91,7 +91,7 @@ public class DeletePremiumCommand extends Command {
      * @return a new Person with the specified premiums removed
      */
     private Person deletePremium(Person premiumToDelete) throws ParseException {
-        PremiumList premiumListToChange = premiumToDelete.getPremiumList();
+        PremiumList premiumListToChange = new PremiumList(premiumToDelete.getPremiumList().premiumList);
 
         for (Premium p : premiumList.premiumList) {
             if (!premiumListToChange.contains(p)) {
@@ -100,9 +100,9 @@ public class DeletePremiumCommand extends Command {
             premiumListToChange.remove(p);
         }
 
-        return new Person(premiumToDelete.getName(), premiumToDelete.getPhone(), premiumToDelete.getEmail(),
-                premiumToDelete.getAddress(), premiumToDelete.getBirthday(), premiumListToChange,
-                premiumToDelete.getTags());
+        return new Person(premiumToDelete.getId(), premiumToDelete.getName(), premiumToDelete.getPhone(),
+                premiumToDelete.getEmail(), premiumToDelete.getAddress(), premiumToDelete.getBirthday(),
+                premiumListToChange, premiumToDelete.getTags());
     }
 
     /**
@@ -94,8 +94,8 @@ public class EditPremiumCommand extends Command {
         PremiumList updatedPremiumList = editPremium(personToEdit, editPremiumDescriptor.getPremium()
                 .orElse(personToEdit.getPremiumList()));
 
-        return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getBirthday(),
+        return new Person(personToEdit.getId(), personToEdit.getName(), personToEdit.getPhone(),
+                personToEdit.getEmail(), personToEdit.getAddress(), personToEdit.getBirthday(),
                 updatedPremiumList, personToEdit.getTags());
     }
 
@@ -129,11 +129,12 @@ public class EditPremiumCommand extends Command {
      * @param premiumList The premiums to replace with
      */
     private static PremiumList editPremium(Person personToEdit, PremiumList premiumList) {
+        PremiumList updatedPremiumList = new PremiumList(personToEdit.getPremiumList().premiumList);
         for (Premium premium : premiumList.premiumList) {
-            personToEdit.getPremiumList().replace(premium);
+            updatedPremiumList.replace(premium);
         }
 
-        return personToEdit.getPremiumList();
+        return updatedPremiumList;
     }
 
     private static boolean validPremium(Person personToEdit, PremiumList premiumList) {
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.RecordExporter.RecordFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Premium;
+
+/**
+ * Exports the persons in the displayed person list to a file.
+ * The command only takes a snapshot of the list, which holds references to the immutable persons rather than
+ * copies of them, and leaves the writing of the file to a {@link BackgroundTask}.
+ * Persons exported as CSV can be imported again with {@link ImportCommand}.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the displayed person list "
+            + "to a file, in the format named by its extension: .csv, .jsonl (JSON Lines) or .vcf (vCard).\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d persons to %2$s";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d persons to %3$s";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final List<String> CSV_HEADER = List.of(PersonCsvParser.COLUMN_NAME, PersonCsvParser.COLUMN_PHONE,
+            PersonCsvParser.COLUMN_EMAIL, PersonCsvParser.COLUMN_ADDRESS, PersonCsvParser.COLUMN_BIRTHDAY,
+            PersonCsvParser.COLUMN_PREMIUMS, PersonCsvParser.COLUMN_TAGS);
+
+    /** vCard lines end with CRLF whatever the platform. */
+    private static final String VCARD_LINE_END = "\r\n";
+    private static final Pattern VCARD_SPECIAL_CHARACTERS = Pattern.compile("[\\\\,;]");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+
+    private final Path filePath;
+    private final ExportFormat format;
+    private final RecordFormat<Person> jsonLinesFormat;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons to the file at {@code filePath} in {@code format}.
+     * Persons exported as JSON Lines are written in {@code jsonLinesFormat}.
+     */
+    public ExportCommand(Path filePath, ExportFormat format, RecordFormat<Person> jsonLinesFormat) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(jsonLinesFormat);
+        this.filePath = filePath;
+        this.format = format;
+        this.jsonLinesFormat = jsonLinesFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> persons = List.copyOf(model.getFilteredPersonList());
+        RecordExporter<Person> exporter = new RecordExporter<>(getRecordFormat());
+        BackgroundTask exportTask = progressReporter -> {
+            try {
+                exporter.export(persons, filePath, exportedCount -> progressReporter.accept(
+                        String.format(MESSAGE_PROGRESS, exportedCount, persons.size(), filePath)));
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+            }
+            return String.format(MESSAGE_SUCCESS, persons.size(), filePath);
+        };
+        return new CommandResult(String.format(MESSAGE_EXPORTING, persons.size(), filePath), exportTask);
+    }
+
+    private RecordFormat<Person> getRecordFormat() {
+        switch (format) {
+        case CSV:
+            return RecordExporter.csv(CSV_HEADER, ExportCommand::toCsvFields);
+        case JSON_LINES:
+            return jsonLinesFormat;
+        case VCARD:
+            return ExportCommand::writeVcard;
+        default:
+            throw new AssertionError("Unknown export format: " + format);
+        }
+    }
+
+    /**
+     * Returns the fields of {@code person} in the columns of {@link #CSV_HEADER}, formatted as
+     * {@link PersonCsvParser} reads them.
+     */
+    private static List<String> toCsvFields(Person person) {
+        String premiums = person.getPremiumList().premiumList.stream()
+                .map(premium -> premium.getPremiumName() + " " + premium.getPremiumAmount())
+                .collect(Collectors.joining(" "));
+        String tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.joining(" "));
+        return List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, person.getBirthday().toString(), premiums, tags);
+    }
+
+    /**
+     * Writes {@code person} as a vCard 3.0 (RFC 2426) card. Premiums are written in the note of the card.
+     */
+    private static void writeVcard(BufferedWriter writer, Person person) throws IOException {
+        String name = escapeVcardText(person.getName().fullName);
+        writeVcardLine(writer, "BEGIN:VCARD");
+        writeVcardLine(writer, "VERSION:3.0");
+        writeVcardLine(writer, "N:;" + name + ";;;");
+        writeVcardLine(writer, "FN:" + name);
+        writeVcardLine(writer, "TEL:" + escapeVcardText(person.getPhone().value));
+        writeVcardLine(writer, "EMAIL:" + escapeVcardText(person.getEmail().value));
+        writeVcardLine(writer, "ADR:;;" + escapeVcardText(person.getAddress().value) + ";;;;");
+        writeVcardLine(writer, "BDAY:" + person.getBirthday());
+        if (!person.getTags().isEmpty()) {
+            writeVcardLine(writer, "CATEGORIES:" + person.getTags().stream()
+                    .map(tag -> escapeVcardText(tag.tagName))
+                    .collect(Collectors.joining(",")));
+        }
+        if (!person.getPremiumList().isEmpty()) {
+            writeVcardLine(writer, "NOTE:" + escapeVcardText("Premiums: " + person.getPremiumList().premiumList
+                    .stream()
+                    .map(Premium::displayPremium)
+                    .collect(Collectors.joining(", "))));
+        }
+        writeVcardLine(writer, "END:VCARD");
+    }
+
+    private static void writeVcardLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.write(VCARD_LINE_END);
+    }
+
+    /**
+     * Returns {@code text} with the characters that have a meaning in vCard values escaped with a backslash.
+     */
+    static String escapeVcardText(String text) {
+        String escaped = VCARD_SPECIAL_CHARACTERS.matcher(text).replaceAll("\\\\$0");
+        return LINE_BREAK.matcher(escaped).replaceAll(Matcher.quoteReplacement("\\n"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && jsonLinesFormat == otherExportCommand.jsonLinesFormat;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
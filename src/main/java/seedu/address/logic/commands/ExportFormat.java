@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A format that records can be exported in, named by the extension of the file they are exported to.
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    JSON_LINES("jsonl"),
+    VCARD("vcf");
+
+    private final String fileExtension;
+
+    ExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format named by the extension of {@code filePath}, ignoring case, if there is one.
+     */
+    public static Optional<ExportFormat> of(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (name.contains(".") && format.fileExtension.equals(extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.RecordExporter.RecordFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Exports the policies in the displayed policy list to a file.
+ * Like {@link ExportCommand}, the command only takes a snapshot of the list and leaves the writing of the file to a
+ * {@link BackgroundTask}.
+ */
+public class ExportPolicyCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportpolicy";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the policies in the displayed policy list "
+            + "to a file, in the format named by its extension: .csv or .jsonl (JSON Lines).\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/policies.csv";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d policies to %2$s";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d policies to %3$s";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d policies to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final List<String> CSV_HEADER = List.of("policyNumber", "policyName", "providerCompany",
+            "policyLink");
+
+    private final Path filePath;
+    private final ExportFormat format;
+    private final RecordFormat<Policy> jsonLinesFormat;
+
+    /**
+     * Creates an ExportPolicyCommand to export the displayed policies to the file at {@code filePath} in
+     * {@code format}, which must not be {@link ExportFormat#VCARD}. Policies exported as JSON Lines are written in
+     * {@code jsonLinesFormat}.
+     */
+    public ExportPolicyCommand(Path filePath, ExportFormat format, RecordFormat<Policy> jsonLinesFormat) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(jsonLinesFormat);
+        assert isSupported(format);
+        this.filePath = filePath;
+        this.format = format;
+        this.jsonLinesFormat = jsonLinesFormat;
+    }
+
+    /**
+     * Returns true if policies can be exported in {@code format}.
+     */
+    public static boolean isSupported(ExportFormat format) {
+        return format != ExportFormat.VCARD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Policy> policies = List.copyOf(model.getFilteredPolicyList());
+        RecordExporter<Policy> exporter = new RecordExporter<>(getRecordFormat());
+        BackgroundTask exportTask = progressReporter -> {
+            try {
+                exporter.export(policies, filePath, exportedCount -> progressReporter.accept(
+                        String.format(MESSAGE_PROGRESS, exportedCount, policies.size(), filePath)));
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+            }
+            return String.format(MESSAGE_SUCCESS, policies.size(), filePath);
+        };
+        return new CommandResult(String.format(MESSAGE_EXPORTING, policies.size(), filePath), exportTask);
+    }
+
+    private RecordFormat<Policy> getRecordFormat() {
+        switch (format) {
+        case CSV:
+            return RecordExporter.csv(CSV_HEADER, policy -> List.of(policy.getPolicyNumber().value,
+                    policy.getPolicyName().policyName, policy.getProviderCompany().value,
+                    policy.getPolicyLink().value));
+        case JSON_LINES:
+            return jsonLinesFormat;
+        default:
+            throw new AssertionError("Policies cannot be exported as " + format);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportPolicyCommand)) {
+            return false;
+        }
+
+        ExportPolicyCommand otherExportPolicyCommand = (ExportPolicyCommand) other;
+        return filePath.equals(otherExportPolicyCommand.filePath)
+                && format == otherExportPolicyCommand.format
+                && jsonLinesFormat == otherExportPolicyCommand.jsonLinesFormat;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityKey;
+
+/**
+ * Imports the persons in a CSV file into the address book.
+ * The file is read a chunk of rows at a time, and the rows of a chunk are validated in parallel, so that only one
+ * chunk of the file is held in memory besides the persons to be imported. A row that is invalid, or that holds a
+ * person who is already in the address book or on an earlier row, is rejected and written with the reason to a
+ * report file next to the imported file. The accepted persons are added to the address book in a single change.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the persons in a CSV file. "
+            + "The first row of the file names its columns: name, phone, email, address, birthday, "
+            + "and optionally premiums and tags.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_SUCCESS_WITH_REJECTIONS = MESSAGE_SUCCESS
+            + "\n%3$d rows were rejected, see %4$s";
+    public static final String MESSAGE_NO_HEADER = "The CSV file %1$s has no header row";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "This person already exists in the address book or on an earlier row";
+
+    public static final String REPORT_FILE_SUFFIX = ".rejected.csv";
+
+    static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final List<String> REPORT_HEADER = List.of("line", "reason", "row");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\s*\\R\\s*");
+    /** The byte order mark that spreadsheet programs write at the start of a UTF-8 CSV file. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Path filePath;
+    private final int chunkSize;
+
+    /**
+     * Creates an ImportCommand to import the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        this(filePath, DEFAULT_CHUNK_SIZE);
+    }
+
+    ImportCommand(Path filePath, int chunkSize) {
+        requireNonNull(filePath);
+        assert chunkSize > 0;
+        this.filePath = filePath;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the path of the file that the rejected rows of {@code filePath} are written to.
+     */
+    public static Path getReportPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + REPORT_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path reportPath = getReportPath(filePath);
+        List<Person> acceptedPersons = new ArrayList<>();
+        int rejectedCount;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                RejectionReport report = new RejectionReport(reportPath)) {
+            PersonCsvParser parser = readHeader(reader);
+            Set<PersonIdentityKey> acceptedKeys = new HashSet<>();
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    chunk.add(new Row(lineNumber, line));
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, parser, model, acceptedKeys, acceptedPersons, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, parser, model, acceptedKeys, acceptedPersons, report);
+            rejectedCount = report.getRejectedCount();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+
+        if (!acceptedPersons.isEmpty()) {
+            model.addPersons(acceptedPersons);
+        }
+        if (rejectedCount > 0) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_REJECTIONS, acceptedPersons.size(), filePath,
+                    rejectedCount, reportPath));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, acceptedPersons.size(), filePath));
+    }
+
+    private PersonCsvParser readHeader(BufferedReader reader) throws IOException, CommandException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new CommandException(String.format(MESSAGE_NO_HEADER, filePath));
+        }
+        if (headerLine.startsWith(BYTE_ORDER_MARK)) {
+            headerLine = headerLine.substring(BYTE_ORDER_MARK.length());
+        }
+        try {
+            return new PersonCsvParser(CsvUtil.parseRecord(headerLine));
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Validates the rows of {@code chunk} in parallel, then accepts or rejects each of them in file order.
+     */
+    private static void importChunk(List<Row> chunk, PersonCsvParser parser, Model model,
+            Set<PersonIdentityKey> acceptedKeys, List<Person> acceptedPersons, RejectionReport report)
+            throws IOException {
+        List<Row> parsedRows = chunk.parallelStream()
+                .map(row -> row.parse(parser))
+                .collect(Collectors.toList());
+
+        for (Row row : parsedRows) {
+            if (row.error != null) {
+                report.reject(row, row.error);
+            } else if (model.hasPerson(row.person) || !acceptedKeys.add(PersonIdentityKey.of(row.person))) {
+                report.reject(row, MESSAGE_DUPLICATE_PERSON);
+            } else {
+                acceptedPersons.add(row.person);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A row of the imported file, with the person parsed from it or the reason it is invalid once parsed.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String text;
+        private final Person person;
+        private final String error;
+
+        Row(int lineNumber, String text) {
+            this(lineNumber, text, null, null);
+        }
+
+        private Row(int lineNumber, String text, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+            this.person = person;
+            this.error = error;
+        }
+
+        /**
+         * Returns a copy of this row with the person parsed from it, or with the reason it is invalid.
+         */
+        Row parse(PersonCsvParser parser) {
+            try {
+                return new Row(lineNumber, text, parser.parse(CsvUtil.parseRecord(text)), null);
+            } catch (IllegalValueException e) {
+                return new Row(lineNumber, text, null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The file that rejected rows are written to, one row per line, with reasons joined into a single line.
+     * Any report left by an earlier import of the same file is deleted, and a new one is only created once a row is
+     * rejected.
+     */
+    private static class RejectionReport implements Closeable {
+        private final Path reportPath;
+        private BufferedWriter writer;
+        private int rejectedCount;
+
+        RejectionReport(Path reportPath) throws IOException {
+            this.reportPath = reportPath;
+            Files.deleteIfExists(reportPath);
+        }
+
+        void reject(Row row, String reason) throws IOException {
+            if (writer == null) {
+                FileUtil.createParentDirsOfFile(reportPath);
+                writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8);
+                writeRecord(REPORT_HEADER);
+            }
+            writeRecord(List.of(String.valueOf(row.lineNumber), toSingleLine(reason), row.text));
+            rejectedCount++;
+        }
+
+        private static String toSingleLine(String reason) {
+            return LINE_BREAK.matcher(reason).replaceAll(" ");
+        }
+
+        int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        private void writeRecord(List<String> fields) throws IOException {
+            writer.write(CsvUtil.formatRecord(fields));
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
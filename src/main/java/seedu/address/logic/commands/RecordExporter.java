@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Writes a list of records to a file, one record at a time through a buffered writer.
+ * Only the record being written is ever converted to text, so the memory used stays the same however many records
+ * are exported.
+ *
+ * @param <T> the type of the exported records.
+ */
+public class RecordExporter<T> {
+
+    /** The number of records written between two reports of progress. */
+    public static final int PROGRESS_INTERVAL = 10000;
+
+    private final RecordFormat<T> recordFormat;
+    private final int progressInterval;
+
+    /**
+     * Creates a {@code RecordExporter} that writes records in {@code recordFormat}.
+     */
+    public RecordExporter(RecordFormat<T> recordFormat) {
+        this(recordFormat, PROGRESS_INTERVAL);
+    }
+
+    RecordExporter(RecordFormat<T> recordFormat, int progressInterval) {
+        requireNonNull(recordFormat);
+        assert progressInterval > 0;
+        this.recordFormat = recordFormat;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Returns a format that writes a header row, then one row of the fields returned by {@code toFields} for each
+     * record, as comma-separated values.
+     */
+    public static <T> RecordFormat<T> csv(List<String> header, Function<? super T, List<String>> toFields) {
+        requireNonNull(header);
+        requireNonNull(toFields);
+        return new RecordFormat<>() {
+            @Override
+            public void writeHeader(BufferedWriter writer) throws IOException {
+                writeCsvRecord(writer, header);
+            }
+
+            @Override
+            public void writeRecord(BufferedWriter writer, T record) throws IOException {
+                writeCsvRecord(writer, toFields.apply(record));
+            }
+        };
+    }
+
+    private static void writeCsvRecord(BufferedWriter writer, List<String> fields) throws IOException {
+        writer.write(CsvUtil.formatRecord(fields));
+        writer.newLine();
+    }
+
+    /**
+     * Writes {@code records} to the file at {@code filePath}, replacing any file there, and passes the number of
+     * records written so far to {@code progressListener} after every {@link #PROGRESS_INTERVAL} records.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void export(List<? extends T> records, Path filePath, IntConsumer progressListener) throws IOException {
+        requireNonNull(records);
+        requireNonNull(filePath);
+        requireNonNull(progressListener);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            recordFormat.writeHeader(writer);
+            for (int i = 0; i < records.size(); i++) {
+                recordFormat.writeRecord(writer, records.get(i));
+                if ((i + 1) % progressInterval == 0 && i + 1 < records.size()) {
+                    progressListener.accept(i + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes records of type {@code T} as text.
+     */
+    @FunctionalInterface
+    public interface RecordFormat<T> {
+
+        /**
+         * Writes whatever comes before the first record. Nothing is written by default.
+         */
+        default void writeHeader(BufferedWriter writer) throws IOException {
+        }
+
+        /**
+         * Writes {@code record}, ending with a line separator.
+         */
+        void writeRecord(BufferedWriter writer, T record) throws IOException;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.model.Model;
+
+/**
+ * Shows the percentiles of the latencies of the stages of the commands executed so far, for each command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    private final CommandStats commandStats;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the latencies in {@code commandStats}.
+     */
+    public StatsCommand(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandStats.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandStats == otherStatsCommand.commandStats;
+    }
+}
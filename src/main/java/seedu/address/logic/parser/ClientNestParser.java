@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,25 +22,105 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditPolicyCommand;
 import seedu.address.logic.commands.EditPremiumCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportPolicyCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindPolicyCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListPolicyCommand;
 import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.RecordExporter.RecordFormat;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
 
 /**
  * Parses user input.
+ * Each command word is mapped to a shared, stateless parser of its arguments. More commands can be added with
+ * {@link #registerCommand(String, Parser)}.
  */
 public class ClientNestParser {
 
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %s is already registered";
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(ClientNestParser.class);
 
+    private final CommandWordTrie<Parser<? extends Command>> commandParsers = new CommandWordTrie<>();
+
+    /**
+     * Creates a {@code ClientNestParser} that parses all the built-in commands. Persons and policies are exported
+     * as JSON Lines in {@code personJsonLinesFormat} and {@code policyJsonLinesFormat}.
+     */
+    public ClientNestParser(RecordFormat<Person> personJsonLinesFormat, RecordFormat<Policy> policyJsonLinesFormat) {
+        /* General */
+        registerCommand(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registerCommand(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registerCommand(ProfileCommand.COMMAND_WORD, new ProfileCommandParser());
+        registerCommand(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registerCommand(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+
+        /* Person */
+        registerCommand(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registerCommand(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registerCommand(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registerCommand(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registerCommand(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registerCommand(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        registerCommand(ExportCommand.COMMAND_WORD, new ExportCommandParser(personJsonLinesFormat));
+        registerCommand(ListCommand.COMMAND_WORD, arguments -> {
+            if (!arguments.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+            }
+            return new ListCommand();
+        });
+
+        /* Premium */
+        registerCommand(AddPremiumCommand.COMMAND_WORD, new AddPremiumCommandParser());
+        registerCommand(EditPremiumCommand.COMMAND_WORD, new EditPremiumCommandParser());
+        registerCommand(DeletePremiumCommand.COMMAND_WORD, new DeletePremiumCommandParser());
+
+        /* Policy */
+        registerCommand(AddPolicyCommand.COMMAND_WORD, new AddPolicyCommandParser());
+        registerCommand(ListPolicyCommand.COMMAND_WORD, arguments -> {
+            if (!arguments.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        ListPolicyCommand.MESSAGE_USAGE));
+            }
+            return new ListPolicyCommand();
+        });
+        registerCommand(FindPolicyCommand.COMMAND_WORD, new FindPolicyCommandParser());
+        registerCommand(EditPolicyCommand.COMMAND_WORD, new EditPolicyCommandParser());
+        registerCommand(DeletePolicyCommand.COMMAND_WORD, new DeletePolicyCommandParser());
+        registerCommand(ExportPolicyCommand.COMMAND_WORD, new ExportPolicyCommandParser(policyJsonLinesFormat));
+    }
+
+    /**
+     * Makes {@code parser} parse the arguments of the commands starting with {@code commandWord}.
+     * {@code parser} is shared by all such commands, so it must not keep any state between them.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        checkArgument(!commandParsers.contains(commandWord),
+                String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        commandParsers.put(commandWord, parser);
+    }
+
+    /**
+     * Returns the registered command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCommandWordCompletions(String prefix) {
+        return commandParsers.getCommandWordsStartingWith(prefix);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -60,76 +142,12 @@ public class ClientNestParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        /* General */
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ProfileCommand.COMMAND_WORD:
-            return new ProfileCommandParser().parse(arguments);
-
-        /* Person */
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            if (arguments.isEmpty()) {
-                return new ListCommand();
-            } else {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
-            }
-
-        /* Premium */
-        case AddPremiumCommand.COMMAND_WORD:
-            return new AddPremiumCommandParser().parse(arguments);
-
-        case EditPremiumCommand.COMMAND_WORD:
-            return new EditPremiumCommandParser().parse(arguments);
-
-        case DeletePremiumCommand.COMMAND_WORD:
-            return new DeletePremiumCommandParser().parse(arguments);
-
-        /* Policy */
-        case AddPolicyCommand.COMMAND_WORD:
-            return new AddPolicyCommandParser().parse(arguments);
-
-        case ListPolicyCommand.COMMAND_WORD:
-            if (arguments.isEmpty()) {
-                return new ListPolicyCommand();
-            } else {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                        ListPolicyCommand.MESSAGE_USAGE));
-            }
-
-        case FindPolicyCommand.COMMAND_WORD:
-            return new FindPolicyCommandParser().parse(arguments);
-
-        case EditPolicyCommand.COMMAND_WORD:
-            return new EditPolicyCommandParser().parse(arguments);
-
-        case DeletePolicyCommand.COMMAND_WORD:
-            return new DeletePolicyCommandParser().parse(arguments);
-
-        default:
+        Parser<? extends Command> parser = commandParsers.get(commandWord).orElse(null);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
 }
@@ -0,0 +1,104 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A trie of command words, each mapped to a value.
+ * Looking up a word walks one node per character, and all the words that start with a given prefix are found
+ * under the node of that prefix, which is what completing a partly typed command word needs.
+ *
+ * @param <T> the type of the values mapped to the command words.
+ */
+public class CommandWordTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Maps {@code commandWord} to {@code value}, replacing any value it was mapped to.
+     */
+    public void put(String commandWord, T value) {
+        requireNonNull(commandWord);
+        requireNonNull(value);
+
+        Node<T> node = root;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    /**
+     * Returns the value mapped to {@code commandWord}, if any.
+     */
+    public Optional<T> get(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(findNode(commandWord, 0, commandWord.length())).map(node -> node.value);
+    }
+
+    /**
+     * Returns the value mapped to the command word made of the characters of {@code text} from {@code start}
+     * (inclusive) to {@code end} (exclusive), or {@code defaultValue} if there is none.
+     * Unlike {@link #get(String)}, the command word is looked up in place, so no objects are created.
+     */
+    public T getOrDefault(CharSequence text, int start, int end, T defaultValue) {
+        requireNonNull(text);
+        assert 0 <= start && start <= end && end <= text.length();
+
+        Node<T> node = findNode(text, start, end);
+        return node == null || node.value == null ? defaultValue : node.value;
+    }
+
+    /**
+     * Returns true if {@code commandWord} is mapped to a value.
+     */
+    public boolean contains(String commandWord) {
+        return get(commandWord).isPresent();
+    }
+
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCommandWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+
+        List<String> commandWords = new ArrayList<>();
+        Node<T> node = findNode(prefix, 0, prefix.length());
+        if (node != null) {
+            collectCommandWords(node, new StringBuilder(prefix), commandWords);
+        }
+        return commandWords;
+    }
+
+    private Node<T> findNode(CharSequence text, int start, int end) {
+        Node<T> node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.children.get(text.charAt(i));
+        }
+        return node;
+    }
+
+    private static <T> void collectCommandWords(Node<T> node, StringBuilder word, List<String> commandWords) {
+        if (node.value != null) {
+            commandWords.add(word.toString());
+        }
+        for (Map.Entry<Character, Node<T>> child : node.children.entrySet()) {
+            word.append(child.getKey());
+            collectCommandWords(child.getValue(), word, commandWords);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * A node of the trie, which ends a command word if it has a value.
+     */
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children = new TreeMap<>();
+        private T value;
+    }
+}
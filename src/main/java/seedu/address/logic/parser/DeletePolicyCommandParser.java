@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeletePolicyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -18,8 +20,8 @@ public class DeletePolicyCommandParser implements Parser<DeletePolicyCommand> {
      */
     public DeletePolicyCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeletePolicyCommand(index);
+            List<Index> indexes = ParserUtil.parseIndexes(args);
+            return new DeletePolicyCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeletePolicyCommand.MESSAGE_USAGE), pe);
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportFormat;
+import seedu.address.logic.commands.ExportPolicyCommand;
+import seedu.address.logic.commands.RecordExporter.RecordFormat;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Parses input arguments and creates a new ExportPolicyCommand object
+ */
+public class ExportPolicyCommandParser implements Parser<ExportPolicyCommand> {
+
+    private final RecordFormat<Policy> jsonLinesFormat;
+
+    /**
+     * Creates an {@code ExportPolicyCommandParser} whose commands export policies as JSON Lines in
+     * {@code jsonLinesFormat}.
+     */
+    public ExportPolicyCommandParser(RecordFormat<Policy> jsonLinesFormat) {
+        requireNonNull(jsonLinesFormat);
+        this.jsonLinesFormat = jsonLinesFormat;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportPolicyCommand
+     * and returns an ExportPolicyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportPolicyCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportPolicyCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(trimmedArgs);
+        Optional<ExportFormat> format = ExportFormat.of(filePath).filter(ExportPolicyCommand::isSupported);
+        if (format.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportPolicyCommand.MESSAGE_USAGE));
+        }
+        return new ExportPolicyCommand(filePath, format.get(), jsonLinesFormat);
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -30,6 +33,14 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final int MAX_INDEX_COUNT = 100000;
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range is invalid: the first index must not be larger than the last.";
+    public static final String MESSAGE_TOO_MANY_INDEXES =
+            "At most " + MAX_INDEX_COUNT + " indexes can be given at once.";
+
+    private static final String INDEX_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -44,6 +55,46 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into a list of {@code Index}es in ascending order, without duplicates.
+     * The indexes are separated by commas, and each of them is either a single index or a range of indexes such as
+     * {@code 3-250}, which includes both ends. Leading and trailing whitespaces of each index will be trimmed.
+     * @throws ParseException if any of the indexes or ranges is invalid, or if more than {@link #MAX_INDEX_COUNT}
+     *     indexes are given.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        Set<Integer> indexSet = new TreeSet<>();
+        for (String indexOrRange : oneBasedIndexes.split(INDEX_SEPARATOR, -1)) {
+            int rangeSeparatorPosition = indexOrRange.indexOf(INDEX_RANGE_SEPARATOR);
+            if (rangeSeparatorPosition == -1) {
+                indexSet.add(parseIndex(indexOrRange).getOneBased());
+                continue;
+            }
+
+            int first = parseIndex(indexOrRange.substring(0, rangeSeparatorPosition)).getOneBased();
+            int last = parseIndex(indexOrRange.substring(rangeSeparatorPosition + 1)).getOneBased();
+            if (first > last) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            if (last - first >= MAX_INDEX_COUNT) {
+                throw new ParseException(MESSAGE_TOO_MANY_INDEXES);
+            }
+            for (int i = first; i <= last; i++) {
+                indexSet.add(i);
+            }
+        }
+        if (indexSet.size() > MAX_INDEX_COUNT) {
+            throw new ParseException(MESSAGE_TOO_MANY_INDEXES);
+        }
+
+        List<Index> indexes = new ArrayList<>(indexSet.size());
+        for (int oneBasedIndex : indexSet) {
+            indexes.add(Index.fromOneBased(oneBasedIndex));
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -157,7 +208,7 @@ public class ParserUtil {
         requireNonNull(string);
         PremiumList premiumList = new PremiumList();
         String[] split = string.split(" ");
-        if (split.length < 2) {
+        if (split.length < 2 || split.length % 2 != 0) {
             throw new ParseException(Premium.MESSAGE_CONSTRAINTS);
         }
         for (int i = 0, size = split.length; i < size; i = i + 2) {
@@ -0,0 +1,123 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PremiumList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the records of a CSV file of persons into {@code Person}s.
+ * The header record of the file names its columns, in any order and ignoring case. The name, phone, email, address
+ * and birthday columns are required. The optional premiums column has the same format as the value of
+ * {@link CliSyntax#PREFIX_PREMIUM}, and the optional tags column holds tags separated by spaces.
+ * A parser holds no state besides the column positions, so records may be parsed concurrently.
+ */
+public class PersonCsvParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_BIRTHDAY = "birthday";
+    public static final String COLUMN_PREMIUMS = "premiums";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV file has no %1$s column";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The CSV file has more than one %1$s column";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "The row has %1$d fields but the header has %2$d";
+
+    private static final int NO_COLUMN = -1;
+
+    private final int columnCount;
+    private final int nameColumn;
+    private final int phoneColumn;
+    private final int emailColumn;
+    private final int addressColumn;
+    private final int birthdayColumn;
+    private final int premiumsColumn;
+    private final int tagsColumn;
+
+    /**
+     * Creates a {@code PersonCsvParser} for the records of a file with the given header record.
+     *
+     * @throws ParseException if a required column is missing, or if a column appears more than once.
+     */
+    public PersonCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        columnCount = header.size();
+        nameColumn = findRequiredColumn(header, COLUMN_NAME);
+        phoneColumn = findRequiredColumn(header, COLUMN_PHONE);
+        emailColumn = findRequiredColumn(header, COLUMN_EMAIL);
+        addressColumn = findRequiredColumn(header, COLUMN_ADDRESS);
+        birthdayColumn = findRequiredColumn(header, COLUMN_BIRTHDAY);
+        premiumsColumn = findColumn(header, COLUMN_PREMIUMS);
+        tagsColumn = findColumn(header, COLUMN_TAGS);
+    }
+
+    /**
+     * Parses the fields of a record into a new {@code Person}.
+     *
+     * @throws ParseException if the record does not have a field for every column, or if a field is invalid.
+     */
+    public Person parse(List<String> fields) throws ParseException {
+        requireNonNull(fields);
+        if (fields.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.size(), columnCount));
+        }
+
+        Name name = ParserUtil.parseName(fields.get(nameColumn));
+        Phone phone = ParserUtil.parsePhone(fields.get(phoneColumn));
+        Email email = ParserUtil.parseEmail(fields.get(emailColumn));
+        Address address = ParserUtil.parseAddress(fields.get(addressColumn));
+        Birthday birthday = ParserUtil.parseBirthday(fields.get(birthdayColumn));
+        PremiumList premiumList = ParserUtil.parsePremium(getOptionalField(fields, premiumsColumn));
+        Set<Tag> tags = ParserUtil.parseTags(getOptionalField(fields, tagsColumn)
+                .map(tagNames -> Arrays.asList(tagNames.split("\\s+")))
+                .orElse(List.of()));
+
+        return new Person(name, phone, email, address, birthday, premiumList, tags);
+    }
+
+    private static Optional<String> getOptionalField(List<String> fields, int column) {
+        if (column == NO_COLUMN) {
+            return Optional.empty();
+        }
+        String field = fields.get(column).trim();
+        return field.isEmpty() ? Optional.empty() : Optional.of(field);
+    }
+
+    private static int findRequiredColumn(List<String> header, String columnName) throws ParseException {
+        int column = findColumn(header, columnName);
+        if (column == NO_COLUMN) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, columnName));
+        }
+        return column;
+    }
+
+    private static int findColumn(List<String> header, String columnName) throws ParseException {
+        int column = NO_COLUMN;
+        for (int i = 0; i < header.size(); i++) {
+            if (!header.get(i).trim().toLowerCase(Locale.ROOT).equals(columnName)) {
+                continue;
+            }
+            if (column != NO_COLUMN) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, columnName));
+            }
+            column = i;
+        }
+        return column;
+    }
+}
@@ -6,15 +6,27 @@ package seedu.address.logic.parser;
  */
 public class Prefix {
     private final String prefix;
+    private final String searchString;
 
+    /**
+     * Creates a {@code Prefix} of {@code prefix}, along with the string that it is searched for with.
+     */
     public Prefix(String prefix) {
         this.prefix = prefix;
+        this.searchString = " " + prefix;
     }
 
     public String getPrefix() {
         return prefix;
     }
 
+    /**
+     * Returns the prefix preceded by a whitespace, as it is found in an arguments string.
+     */
+    public String getSearchString() {
+        return searchString;
+    }
+
     @Override
     public String toString() {
         return getPrefix();
@@ -2,12 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.BirthdayCalendar;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdentityKey;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +30,25 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Source of versions, shared by all address books so that no two of them ever have the same version. */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
+    /** Makes the changes to the person list of the address book of the books. */
+    private static final ListDelta.Maker<Person> PERSON_LIST =
+            (addressBook, policyBook, change) -> addressBook.make(change);
+
+    /** The most person changes kept in the change log, after which the oldest changes are dropped. */
+    static final int CHANGE_LOG_CAPACITY = 1000;
+
     private final UniquePersonList persons;
+    private final NameTokenIndex nameIndex;
+    private final BirthdayCalendar birthdayCalendar;
+    private final ListDelta.EntryList<Person> personList = new PersonList();
+    private long version;
+    private final ArrayDeque<PersonChange> changeLog = new ArrayDeque<>();
+    private long changeLogStartVersion;
+    private Consumer<Delta> deltaRecorder;
+    private Consumer<ModelChangeEvent> changeListener;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,16 +59,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new NameTokenIndex();
+        birthdayCalendar = new BirthdayCalendar();
+        version = latestVersion.incrementAndGet();
+        changeLogStartVersion = version;
     }
 
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * The copy has the version and the change log of {@code toBeCopied}, if it tracks them, as it has the same
+     * contents until one of them is modified.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        if (toBeCopied.getVersion() != UNTRACKED_VERSION) {
+            version = toBeCopied.getVersion();
+            PersonChangeLog log = toBeCopied.getPersonChangeLog();
+            changeLog.addAll(log.getChanges());
+            changeLogStartVersion = log.getStartVersion();
+        }
     }
 
     //// list overwrite operations
@@ -45,7 +90,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        make(new ListDelta.Reset<>(PERSON_LIST, List.copyOf(getPersonList()), List.copyOf(persons)));
     }
 
     /**
@@ -67,12 +112,52 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Person> getPerson(PersonId id) {
+        return persons.get(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        addPersons(List.of(p));
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change to the person list.
+     * None of the persons may already exist in the address book, and they must be unique among themselves.
+     */
+    public void addPersons(Collection<Person> persons) {
+        int[] positions = ListDelta.positionsFrom(getPersonList().size(), persons.size());
+        make(new ListDelta.Inserted<>(PERSON_LIST, positions, List.copyOf(persons)));
+    }
+
+    /**
+     * Removes the persons at {@code removePositions}, replaces the persons at the positions that are keys of
+     * {@code replacements} and adds {@code toAdd} to the end, as a single change to the person list. The positions
+     * are those in the list before the change, with {@code removePositions} in ascending order.
+     * Used to apply a batch of changes staged apart from the address book.
+     */
+    void applyChanges(int[] removePositions, Map<Integer, Person> replacements, List<Person> toAdd) {
+        List<Person> removed = new ArrayList<>();
+        for (int position : removePositions) {
+            removed.add(getPersonList().get(position));
+        }
+        int[] replacePositions = replacements.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        List<Person> replaced = new ArrayList<>();
+        List<Person> replacing = new ArrayList<>();
+        for (int position : replacePositions) {
+            replaced.add(getPersonList().get(position));
+            replacing.add(replacements.get(position));
+        }
+        int[] insertPositions = ListDelta.positionsFrom(getPersonList().size() - removed.size(), toAdd.size());
+        make(new ListDelta.Batch<>(PERSON_LIST, removePositions, removed, replacePositions, replaced, replacing,
+                insertPositions, List.copyOf(toAdd)));
     }
 
     /**
@@ -82,8 +167,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-
-        persons.setPerson(target, editedPerson);
+        make(new ListDelta.Replaced<>(PERSON_LIST, getStoredPerson(target), editedPerson));
     }
 
     /**
@@ -91,11 +175,215 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        requireNonNull(key);
+        removePersons(List.of(key));
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} as a single change to the person list.
+     * The keys must all exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        int[] positions = keys.stream().mapToInt(this::getStoredPosition).sorted().distinct().toArray();
+        List<Person> removed = new ArrayList<>();
+        for (int position : positions) {
+            removed.add(getPersonList().get(position));
+        }
+        make(new ListDelta.Removed<>(PERSON_LIST, positions, removed));
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the IDs of the persons whose names contain any of {@code keywords} as a full word, ignoring case.
+     * The IDs are looked up in an index of name words, without testing each person.
+     */
+    public Set<PersonId> findPersonIdsByName(List<String> keywords) {
+        return nameIndex.findIds(keywords);
+    }
+
+    /**
+     * Returns the persons whose next birthday falls within {@code days} days of {@code today}, including
+     * {@code today} itself, ordered by the date of that birthday.
+     * Only the calendar days in the range are looked at, not every person.
+     */
+    public List<Person> getPersonsWithUpcomingBirthdays(LocalDate today, int days) {
+        return birthdayCalendar.getPersonsWithBirthdaysWithin(today, days);
     }
 
     //// util methods
 
+    /**
+     * Passes every later change to this address book to {@code deltaRecorder}, or stops passing them if it is null.
+     */
+    void setDeltaRecorder(Consumer<Delta> deltaRecorder) {
+        this.deltaRecorder = deltaRecorder;
+    }
+
+    /**
+     * Passes an event for every later change to this address book to {@code changeListener}, or stops passing them
+     * if it is null. Unlike the deltas, events are also passed for the changes made to revert or apply a delta.
+     */
+    void setChangeListener(Consumer<ModelChangeEvent> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Makes {@code change} to the person list, and then updates the indexes and the version, logs the change,
+     * records it and publishes its events, all from {@code change}.
+     */
+    private void make(ListDelta<Person> change) {
+        change.makeTo(personList);
+        if (change.isReset()) {
+            nameIndex.reset(change.getInserted());
+            birthdayCalendar.reset(change.getInserted());
+        } else {
+            for (Person p : change.getRemoved()) {
+                nameIndex.remove(p);
+                birthdayCalendar.remove(p);
+            }
+            for (int i = 0; i < change.getReplaced().size(); i++) {
+                nameIndex.replace(change.getReplaced().get(i), change.getReplacements().get(i));
+                birthdayCalendar.replace(change.getReplaced().get(i), change.getReplacements().get(i));
+            }
+            for (Person p : change.getInserted()) {
+                nameIndex.add(p);
+                birthdayCalendar.add(p);
+            }
+        }
+        markModified();
+        logChanges(change);
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(change);
+        }
+        publishChanges(change);
+    }
+
+    /**
+     * Returns the person in the person list that is equal to {@code person}, as it is stored.
+     *
+     * @throws PersonNotFoundException if {@code person} is not in the address book.
+     */
+    private Person getStoredPerson(Person person) {
+        return getPersonList().get(getStoredPosition(person));
+    }
+
+    private int getStoredPosition(Person person) {
+        requireNonNull(person);
+        int position = persons.indexOf(person);
+        if (position == -1) {
+            throw new PersonNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Publishes that the persons of {@code change} were removed, replaced and then added, in that order.
+     */
+    private void publishChanges(ListDelta<Person> change) {
+        if (changeListener == null) {
+            return;
+        }
+        if (!change.getRemoved().isEmpty()) {
+            changeListener.accept(new ModelChangeEvent.PersonsRemoved(change.getRemoved()));
+        }
+        for (int i = 0; i < change.getReplaced().size(); i++) {
+            changeListener.accept(
+                    new ModelChangeEvent.PersonReplaced(change.getReplaced().get(i), change.getReplacements().get(i)));
+        }
+        if (!change.getInserted().isEmpty()) {
+            changeListener.accept(new ModelChangeEvent.PersonsAdded(change.getInserted()));
+        }
+    }
+
+    private void markModified() {
+        version = latestVersion.incrementAndGet();
+    }
+
+    /**
+     * Logs the persons of {@code change} as removed, replaced and then added in the current version, or starts the
+     * log again if the change cannot be replayed from such a log: if it replaced the whole list, inserted persons
+     * anywhere but at the end, or replaced persons in a way that {@link #canLogInOrder} rejects.
+     */
+    private void logChanges(ListDelta<Person> change) {
+        int[] insertPositions = change.getInsertPositions();
+        boolean isAppended = insertPositions.length == 0
+                || insertPositions[0] == getPersonList().size() - insertPositions.length;
+        if (change.isReset() || !isAppended || !canLogInOrder(change.getReplaced(), change.getReplacements())) {
+            clearChangeLog();
+            return;
+        }
+
+        List<PersonChange> changes = new ArrayList<>();
+        change.getRemoved().forEach(p -> changes.add(new PersonChange(PersonChange.Type.REMOVED, p, version)));
+        change.getReplacements().forEach(p -> changes.add(new PersonChange(PersonChange.Type.REPLACED, p, version)));
+        change.getInserted().forEach(p -> changes.add(new PersonChange(PersonChange.Type.ADDED, p, version)));
+        logChanges(changes);
+    }
+
+    /**
+     * Logs {@code changes}, which were made in the current version, dropping the oldest changes once there are more
+     * than {@link #CHANGE_LOG_CAPACITY} of them.
+     */
+    private void logChanges(List<PersonChange> changes) {
+        if (changes.size() > CHANGE_LOG_CAPACITY) {
+            clearChangeLog();
+            return;
+        }
+
+        changeLog.addAll(changes);
+        while (changeLog.size() > CHANGE_LOG_CAPACITY) {
+            long droppedVersion = changeLog.removeFirst().getVersion();
+            while (!changeLog.isEmpty() && changeLog.peekFirst().getVersion() == droppedVersion) {
+                changeLog.removeFirst();
+            }
+            changeLogStartVersion = droppedVersion;
+        }
+    }
+
+    /**
+     * Returns true if the persons {@code replaced} by {@code replacements} can be logged as replaced one after
+     * another, which is not the case if a replacement has another ID or takes the identity that another replaced
+     * person had.
+     */
+    private static boolean canLogInOrder(List<Person> replaced, List<Person> replacements) {
+        Set<PersonIdentityKey> replacedKeys = new HashSet<>();
+        replaced.forEach(before -> replacedKeys.add(PersonIdentityKey.of(before)));
+        for (int i = 0; i < replaced.size(); i++) {
+            Person before = replaced.get(i);
+            Person after = replacements.get(i);
+            PersonIdentityKey afterKey = PersonIdentityKey.of(after);
+            if (!before.getId().equals(after.getId())
+                    || (!afterKey.equals(PersonIdentityKey.of(before)) && replacedKeys.contains(afterKey))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Starts the change log again from the current version, after a change that the log cannot describe.
+     */
+    private void clearChangeLog() {
+        changeLog.clear();
+        changeLogStartVersion = version;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public PersonChangeLog getPersonChangeLog() {
+        return new PersonChangeLog(changeLogStartVersion, List.copyOf(changeLog));
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -127,4 +415,35 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * The person list, which changes to the address book are made to.
+     */
+    private class PersonList implements ListDelta.EntryList<Person> {
+        @Override
+        public void insertAll(int[] positions, List<Person> entries) {
+            persons.insertAll(positions, entries);
+        }
+
+        @Override
+        public void removeAll(List<Person> entries) {
+            persons.removeAll(entries);
+        }
+
+        @Override
+        public void set(Person target, Person edited) {
+            persons.setPerson(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Person> entries) {
+            persons.setPersons(entries);
+        }
+
+        @Override
+        public void applyAll(int[] removePositions, Map<Integer, Person> replacements, int[] insertPositions,
+                List<Person> toInsert) {
+            persons.applyAll(removePositions, replacements, insertPositions, toInsert);
+        }
+    }
 }
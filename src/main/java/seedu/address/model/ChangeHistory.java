@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The changes made to an {@code AddressBook} and a {@code PolicyBook}, grouped into steps that can be undone and
+ * redone.
+ * Changes are recorded as {@code Delta}s at the points where the books are modified, and each delta holds only the
+ * persons or policies it touched, so the memory used grows with the number of changes rather than with the size of
+ * the books. At most {@code capacity} steps are kept, and the oldest step is forgotten when another is committed.
+ */
+class ChangeHistory {
+
+    private final AddressBook addressBook;
+    private final PolicyBook policyBook;
+    private final int capacity;
+    private final Deque<List<Delta>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Delta>> redoSteps = new ArrayDeque<>();
+    private final List<Delta> uncommittedDeltas = new ArrayList<>();
+
+    /**
+     * Creates a {@code ChangeHistory} that records the changes made to {@code addressBook} and {@code policyBook}
+     * from now on, keeping at most {@code capacity} steps.
+     */
+    ChangeHistory(AddressBook addressBook, PolicyBook policyBook, int capacity) {
+        requireNonNull(addressBook);
+        requireNonNull(policyBook);
+        assert capacity >= 0;
+        this.addressBook = addressBook;
+        this.policyBook = policyBook;
+        this.capacity = capacity;
+        startRecording();
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into a step that can be undone.
+     * The steps that were undone can no longer be redone once there is such a step.
+     */
+    void commit() {
+        if (uncommittedDeltas.isEmpty()) {
+            return;
+        }
+
+        redoSteps.clear();
+        undoSteps.push(takeUncommitted());
+        if (undoSteps.size() > capacity) {
+            undoSteps.removeLast();
+        }
+    }
+
+    /**
+     * Returns the changes recorded since the last commit, and forgets them.
+     */
+    List<Delta> takeUncommitted() {
+        List<Delta> deltas = List.copyOf(uncommittedDeltas);
+        uncommittedDeltas.clear();
+        return deltas;
+    }
+
+    /**
+     * Runs {@code changes} on the books without recording them.
+     */
+    void runWithoutRecording(Runnable changes) {
+        stopRecording();
+        try {
+            changes.run();
+        } finally {
+            startRecording();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || (capacity > 0 && !uncommittedDeltas.isEmpty());
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the latest step, committing any uncommitted changes first.
+     * There must be a step to undo.
+     */
+    void undo() {
+        assert canUndo();
+        commit();
+        List<Delta> step = undoSteps.pop();
+        runWithoutRecording(() -> {
+            for (int i = step.size() - 1; i >= 0; i--) {
+                step.get(i).revert(addressBook, policyBook);
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Applies again the step that was undone last.
+     * There must be a step to redo.
+     */
+    void redo() {
+        assert canRedo();
+        List<Delta> step = redoSteps.pop();
+        runWithoutRecording(() -> {
+            for (Delta delta : step) {
+                delta.apply(addressBook, policyBook);
+            }
+        });
+        undoSteps.push(step);
+    }
+
+    private void startRecording() {
+        addressBook.setDeltaRecorder(uncommittedDeltas::add);
+        policyBook.setDeltaRecorder(uncommittedDeltas::add);
+    }
+
+    private void stopRecording() {
+        addressBook.setDeltaRecorder(null);
+        policyBook.setDeltaRecorder(null);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model;
+
+/**
+ * A change made to an {@code AddressBook} or a {@code PolicyBook}, holding only what is needed to revert it and to
+ * apply it again: the persons or policies that it added, removed or replaced.
+ */
+interface Delta {
+
+    /**
+     * Reverts this change, which must be the latest change applied to the books.
+     */
+    void revert(AddressBook addressBook, PolicyBook policyBook);
+
+    /**
+     * Applies this change again, after it was reverted.
+     */
+    void apply(AddressBook addressBook, PolicyBook policyBook);
+}
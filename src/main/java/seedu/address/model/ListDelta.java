@@ -0,0 +1,354 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A change made to the list of persons or policies of the books, holding only what is needed to revert it and to
+ * apply it again: the entries that it removed, replaced and inserted.
+ * The books make every change to their lists as a {@code ListDelta}, and derive from it all they update, record and
+ * publish about the change.
+ *
+ * @param <T> the type of the entries of the list.
+ */
+abstract class ListDelta<T> implements Delta {
+
+    private final Maker<T> maker;
+
+    ListDelta(Maker<T> maker) {
+        this.maker = requireNonNull(maker);
+    }
+
+    @Override
+    public void revert(AddressBook addressBook, PolicyBook policyBook) {
+        maker.make(addressBook, policyBook, inverse());
+    }
+
+    @Override
+    public void apply(AddressBook addressBook, PolicyBook policyBook) {
+        maker.make(addressBook, policyBook, this);
+    }
+
+    /**
+     * Returns the positions from {@code start} to just before {@code start + count}, in ascending order.
+     */
+    static int[] positionsFrom(int start, int count) {
+        return IntStream.range(start, start + count).toArray();
+    }
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    abstract ListDelta<T> inverse();
+
+    /**
+     * Makes this change to {@code list}.
+     */
+    abstract void makeTo(EntryList<T> list);
+
+    /**
+     * Returns true if this change replaced the whole list.
+     */
+    boolean isReset() {
+        return false;
+    }
+
+    /**
+     * Returns the entries removed from the list, in the order they were in the list.
+     */
+    List<T> getRemoved() {
+        return List.of();
+    }
+
+    /**
+     * Returns the entries replaced in place, in the same order as their replacements.
+     */
+    List<T> getReplaced() {
+        return List.of();
+    }
+
+    /**
+     * Returns the entries that replaced others in place, in the same order as the entries they replaced.
+     */
+    List<T> getReplacements() {
+        return List.of();
+    }
+
+    /**
+     * Returns the entries inserted into the list, in the order they are in the list.
+     */
+    List<T> getInserted() {
+        return List.of();
+    }
+
+    /**
+     * Returns the positions of the inserted entries in the resulting list, in ascending order.
+     */
+    int[] getInsertPositions() {
+        return new int[0];
+    }
+
+    /**
+     * Makes changes to the list of one of the books.
+     */
+    @FunctionalInterface
+    interface Maker<T> {
+        void make(AddressBook addressBook, PolicyBook policyBook, ListDelta<T> change);
+    }
+
+    /**
+     * The list of a book, which changes are made to.
+     */
+    interface EntryList<T> {
+        /**
+         * Inserts {@code entries}, each at the position with the same index in {@code positions}, which are positions
+         * in the resulting list in ascending order.
+         */
+        void insertAll(int[] positions, List<T> entries);
+
+        void removeAll(List<T> entries);
+
+        void set(T target, T edited);
+
+        void setAll(List<T> entries);
+
+        /**
+         * Removes the entries at {@code removePositions}, replaces the entries at the positions that are keys of
+         * {@code replacements}, and inserts {@code toInsert} at {@code insertPositions}, as a single change.
+         */
+        void applyAll(int[] removePositions, Map<Integer, T> replacements, int[] insertPositions, List<T> toInsert);
+    }
+
+    /**
+     * Entries inserted at the given positions of the list, which are those in the resulting list, in ascending
+     * order. Entries added to the end of the list are inserted at its last positions.
+     */
+    static class Inserted<T> extends ListDelta<T> {
+        private final int[] positions;
+        private final List<T> inserted;
+
+        Inserted(Maker<T> maker, int[] positions, List<T> inserted) {
+            super(maker);
+            assert positions.length == inserted.size();
+            this.positions = positions;
+            this.inserted = inserted;
+        }
+
+        @Override
+        ListDelta<T> inverse() {
+            return new Removed<>(super.maker, positions, inserted);
+        }
+
+        @Override
+        void makeTo(EntryList<T> list) {
+            list.insertAll(positions, inserted);
+        }
+
+        @Override
+        List<T> getInserted() {
+            return inserted;
+        }
+
+        @Override
+        int[] getInsertPositions() {
+            return positions;
+        }
+    }
+
+    /**
+     * Entries removed from the given positions of the list, in ascending order.
+     */
+    static class Removed<T> extends ListDelta<T> {
+        private final int[] positions;
+        private final List<T> removed;
+
+        Removed(Maker<T> maker, int[] positions, List<T> removed) {
+            super(maker);
+            assert positions.length == removed.size();
+            this.positions = positions;
+            this.removed = removed;
+        }
+
+        @Override
+        ListDelta<T> inverse() {
+            return new Inserted<>(super.maker, positions, removed);
+        }
+
+        @Override
+        void makeTo(EntryList<T> list) {
+            list.removeAll(removed);
+        }
+
+        @Override
+        List<T> getRemoved() {
+            return removed;
+        }
+    }
+
+    /**
+     * An entry replaced in place by another.
+     */
+    static class Replaced<T> extends ListDelta<T> {
+        private final T before;
+        private final T after;
+
+        Replaced(Maker<T> maker, T before, T after) {
+            super(maker);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        ListDelta<T> inverse() {
+            return new Replaced<>(super.maker, after, before);
+        }
+
+        @Override
+        void makeTo(EntryList<T> list) {
+            list.set(before, after);
+        }
+
+        @Override
+        List<T> getReplaced() {
+            return List.of(before);
+        }
+
+        @Override
+        List<T> getReplacements() {
+            return List.of(after);
+        }
+    }
+
+    /**
+     * The whole list replaced by another. This is the only change that holds every entry of the list.
+     */
+    static class Reset<T> extends ListDelta<T> {
+        private final List<T> before;
+        private final List<T> after;
+
+        Reset(Maker<T> maker, List<T> before, List<T> after) {
+            super(maker);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        ListDelta<T> inverse() {
+            return new Reset<>(super.maker, after, before);
+        }
+
+        @Override
+        void makeTo(EntryList<T> list) {
+            list.setAll(after);
+        }
+
+        @Override
+        boolean isReset() {
+            return true;
+        }
+
+        @Override
+        List<T> getRemoved() {
+            return before;
+        }
+
+        @Override
+        List<T> getInserted() {
+            return after;
+        }
+
+        @Override
+        int[] getInsertPositions() {
+            return positionsFrom(0, after.size());
+        }
+    }
+
+    /**
+     * Entries removed, replaced and inserted as a single change, as when a batch of changes is applied.
+     * The positions of the removed and replaced entries are those in the list before the change, and the positions of
+     * the inserted entries are those in the resulting list, all in ascending order.
+     */
+    static class Batch<T> extends ListDelta<T> {
+        private final int[] removePositions;
+        private final List<T> removed;
+        private final int[] replacePositions;
+        private final List<T> replaced;
+        private final List<T> replacements;
+        private final int[] insertPositions;
+        private final List<T> inserted;
+
+        Batch(Maker<T> maker, int[] removePositions, List<T> removed, int[] replacePositions, List<T> replaced,
+                List<T> replacements, int[] insertPositions, List<T> inserted) {
+            super(maker);
+            assert removePositions.length == removed.size() && insertPositions.length == inserted.size();
+            assert replacePositions.length == replaced.size() && replaced.size() == replacements.size();
+            this.removePositions = removePositions;
+            this.removed = removed;
+            this.replacePositions = replacePositions;
+            this.replaced = replaced;
+            this.replacements = replacements;
+            this.insertPositions = insertPositions;
+            this.inserted = inserted;
+        }
+
+        /**
+         * Reverts this change with the inserted entries removed, the replacements replaced by the entries they
+         * replaced, and the removed entries inserted back, at their positions in the list after this change.
+         */
+        @Override
+        ListDelta<T> inverse() {
+            int[] resultReplacePositions = new int[replacePositions.length];
+            for (int i = 0; i < replacePositions.length; i++) {
+                int position = replacePositions[i] + Arrays.binarySearch(removePositions, replacePositions[i]) + 1;
+                for (int insertPosition : insertPositions) {
+                    if (insertPosition > position) {
+                        break;
+                    }
+                    position++;
+                }
+                resultReplacePositions[i] = position;
+            }
+            return new Batch<>(super.maker, insertPositions, inserted, resultReplacePositions, replacements,
+                    replaced, removePositions, removed);
+        }
+
+        @Override
+        void makeTo(EntryList<T> list) {
+            Map<Integer, T> replacementsByPosition = new HashMap<>();
+            for (int i = 0; i < replacePositions.length; i++) {
+                replacementsByPosition.put(replacePositions[i], replacements.get(i));
+            }
+            list.applyAll(removePositions, replacementsByPosition, insertPositions, inserted);
+        }
+
+        @Override
+        List<T> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        List<T> getReplaced() {
+            return replaced;
+        }
+
+        @Override
+        List<T> getReplacements() {
+            return replacements;
+        }
+
+        @Override
+        List<T> getInserted() {
+            return inserted;
+        }
+
+        @Override
+        int[] getInsertPositions() {
+            return insertPositions;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -112,6 +115,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons as a single change to the person list.
+     * The persons must all exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     // New method for Policy
     /**
      * Deletes the given policy.
@@ -119,12 +128,24 @@ public interface Model {
      */
     void deletePolicy(Policy target);
 
+    /**
+     * Deletes the given policies as a single change to the policy list.
+     * The policies must all exist in the policy book.
+     */
+    void deletePolicies(Collection<Policy> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single change to the person list.
+     * None of {@code persons} may already exist in the address book, and they must be unique among themselves.
+     */
+    void addPersons(Collection<Person> persons);
+
     // New method for Policy
     /**
      * Adds the given policy.
@@ -148,18 +169,73 @@ public interface Model {
      */
     void setPolicy(Policy target, Policy editedPolicy);
 
+    /**
+     * Applies all the changes that {@code changes} makes to the model it is given as a single change to this model.
+     * The changes are staged apart from this model and applied to each list at most once, so that the lists and
+     * their observers are updated once for the whole batch rather than once per change.
+     * If {@code changes} throws an exception, none of its changes are applied and the exception is rethrown.
+     * In the model given to {@code changes}, saving the user profile fails with an {@code IOException}, as it could
+     * not be undone, there is never a step to undo or redo, and committing does nothing, as the batch is committed as
+     * a whole by this model. A batch started in it is staged as part of the outer batch.
+     * @throws NullPointerException if {@code changes} is null.
+     */
+    void batch(Consumer<Model> changes);
+
+    /**
+     * Groups the changes made to the address book and policy book since the last call into a single step that can
+     * be undone. Changes that are not committed are undone together with the next step.
+     */
+    void commitChanges();
+
+    /**
+     * Returns true if there is a step of changes that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Reverts the latest step of changes to the address book and policy book, and shows all persons and policies.
+     * There must be a step that can be undone.
+     */
+    void undo();
+
+    /**
+     * Returns true if there is an undone step of changes that can be redone.
+     * Committing new changes makes the undone steps impossible to redo.
+     */
+    boolean canRedo();
+
+    /**
+     * Applies again the step of changes that was undone last, and shows all persons and policies.
+     * There must be a step that can be redone.
+     */
+    void redo();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered policy list */
     ObservableList<Policy> getFilteredPolicyList();
 
+    /** Returns the predicate that the filtered person list is filtered by */
+    Predicate<? super Person> getFilteredPersonListPredicate();
+
+    /** Returns the predicate that the filtered policy list is filtered by */
+    Predicate<? super Policy> getFilteredPolicyListPredicate();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only the persons whose names contain any of
+     * {@code keywords} as a full word, ignoring case.
+     * Matches are looked up in the address book's name index instead of testing every person's name.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
     /**
      * Updates the filter of the filtered policy list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -168,8 +244,19 @@ public interface Model {
 
     /**
      * Returns an unmodifiable view of the list of persons whose birthdays are within the next 30 days.
+     * The list is updated whenever a person is added, edited or deleted.
      */
     ObservableList<Person> getUpcomingBirthdays();
 
+    /**
+     * Recomputes the list of upcoming birthdays from today's date.
+     * Should be called when the date changes, e.g. at midnight.
+     */
     void updateUpcomingBirthdays();
+
+    /**
+     * Calls {@code listener} with every later change of type {@code eventType} made to this model, on the thread
+     * that makes the change.
+     */
+    <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener);
 }
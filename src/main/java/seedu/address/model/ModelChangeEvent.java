@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to the data of a {@code Model}, published to the listeners subscribed to its type with
+ * {@link Model#subscribe}.
+ * Events are published whatever the way the change was made, be it by a command, a batch of commands, an undo or a
+ * redo, so that a listener only needs to update what the event names.
+ */
+public abstract class ModelChangeEvent {
+
+    /**
+     * Persons added to the address book.
+     */
+    public static class PersonsAdded extends ModelChangeEvent {
+        private final List<Person> persons;
+
+        PersonsAdded(List<Person> persons) {
+            this.persons = List.copyOf(persons);
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+    }
+
+    /**
+     * Persons removed from the address book.
+     */
+    public static class PersonsRemoved extends ModelChangeEvent {
+        private final List<Person> persons;
+
+        PersonsRemoved(List<Person> persons) {
+            this.persons = List.copyOf(persons);
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+    }
+
+    /**
+     * A person in the address book replaced by another.
+     */
+    public static class PersonReplaced extends ModelChangeEvent {
+        private final Person before;
+        private final Person after;
+
+        PersonReplaced(Person before, Person after) {
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+    }
+
+    /**
+     * Policies added to, removed from or replaced in the policy book.
+     */
+    public static class PolicyChanged extends ModelChangeEvent {}
+
+    /**
+     * The user profile saved with new details.
+     */
+    public static class ProfileChanged extends ModelChangeEvent {
+        private final UserProfile profile;
+
+        ProfileChanged(UserProfile profile) {
+            this.profile = requireNonNull(profile);
+        }
+
+        public UserProfile getProfile() {
+            return profile;
+        }
+    }
+}
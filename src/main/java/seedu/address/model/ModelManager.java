@@ -6,6 +6,11 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -17,7 +22,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.user.UserProfile;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.BirthdayCalendar;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.policy.Policy;
 import seedu.address.storage.Storage;
 
@@ -27,14 +34,22 @@ import seedu.address.storage.Storage;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final int UPCOMING_BIRTHDAY_DAYS = 30;
+    /** The most persons of a change that are shown or hidden one by one, beyond which the list is found again. */
+    private static final int MAX_UPCOMING_CHANGES_IN_PLACE = 8;
+
     private final AddressBook addressBook;
     private final PolicyBook policyBook;
     private final UserPrefs userPrefs;
     private final UserProfile userProfile;
     private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredUpcomingBirthdays;
+    private final ObservableList<Person> upcomingBirthdays;
+    private final ObservableList<Person> unmodifiableUpcomingBirthdays;
     private final FilteredList<Policy> filteredPolicies;
     private final Storage storage;
+    private final ChangeHistory history;
+    private final List<Consumer<ModelChangeEvent>> changeListeners = new CopyOnWriteArrayList<>();
+    private LocalDate upcomingBirthdaysStart;
 
     /**
      * Initializes a ModelManager with the given addressBook, policyBook, and userPrefs.
@@ -51,9 +66,18 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.userProfile = new UserProfile(userProfile.getName(), userProfile.getEmail(), userProfile.getPhone());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredUpcomingBirthdays = new FilteredList<>(this.addressBook.getPersonList());
+        upcomingBirthdays = FXCollections.observableArrayList();
+        unmodifiableUpcomingBirthdays = FXCollections.unmodifiableObservableList(upcomingBirthdays);
         filteredPolicies = new FilteredList<>(this.policyBook.getPolicyList());
         this.storage = storage;
+        history = new ChangeHistory(this.addressBook, this.policyBook, this.userPrefs.getUndoHistorySize());
+        updateUpcomingBirthdays();
+
+        startPublishing();
+        subscribe(ModelChangeEvent.PersonsAdded.class, event -> showUpcoming(event.getPersons()));
+        subscribe(ModelChangeEvent.PersonsRemoved.class, event -> hideUpcoming(event.getPersons()));
+        subscribe(ModelChangeEvent.PersonReplaced.class, event ->
+                replaceUpcoming(event.getBefore(), event.getAfter()));
     }
 
     public ModelManager() {
@@ -139,6 +163,7 @@ public class ModelManager implements Model {
     @Override
     public void saveUserProfile(UserProfile userProfile) throws IOException {
         storage.saveUserProfile(userProfile);
+        publish(new ModelChangeEvent.ProfileChanged(userProfile));
     }
 
 
@@ -165,12 +190,25 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -201,6 +239,12 @@ public class ModelManager implements Model {
         policyBook.removePolicy(target);
     }
 
+    @Override
+    public void deletePolicies(Collection<Policy> targets) {
+        requireNonNull(targets);
+        policyBook.removePolicies(targets);
+    }
+
     @Override
     public void addPolicy(Policy policy) {
         policyBook.addPolicy(policy);
@@ -214,6 +258,92 @@ public class ModelManager implements Model {
         policyBook.setPolicy(target, editedPolicy);
     }
 
+    //=========== Batch ======================================================================================
+
+    /**
+     * Stages the changes in a {@code StagedModel}, which holds only the persons and policies they touch, and applies
+     * them to the books only if all the changes succeed, each book as a single change made through the bulk
+     * operations of its list. A book that the changes leave untouched is not changed.
+     * The changes are recorded in the history of this model and published as they were staged, rather than as the
+     * single change that applies them, so that undoing the batch reverts only what the changes touched.
+     */
+    @Override
+    public void batch(Consumer<Model> changes) {
+        requireNonNull(changes);
+
+        StagedModel staged = new StagedModel(this, addressBook, policyBook, filteredPersons.getPredicate(),
+                filteredPolicies.getPredicate());
+        changes.accept(staged);
+
+        staged.apply();
+        if (!staged.getUserPrefs().equals(userPrefs)) {
+            userPrefs.resetData(staged.getUserPrefs());
+        }
+        if (staged.getPersonPredicate() != filteredPersons.getPredicate()) {
+            filteredPersons.setPredicate(staged.getPersonPredicate());
+        }
+        if (staged.getPolicyPredicate() != filteredPolicies.getPredicate()) {
+            filteredPolicies.setPredicate(staged.getPolicyPredicate());
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitChanges() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public void undo() {
+        history.undo();
+        showChangedBooks();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void redo() {
+        history.redo();
+        showChangedBooks();
+    }
+
+    private void showChangedBooks() {
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredPolicyList(PREDICATE_SHOW_ALL_POLICIES);
+    }
+
+    //=========== Change Events ==============================================================================
+
+    @Override
+    public <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener) {
+        requireAllNonNull(eventType, listener);
+        changeListeners.add(event -> {
+            if (eventType.isInstance(event)) {
+                listener.accept(eventType.cast(event));
+            }
+        });
+    }
+
+    private void publish(ModelChangeEvent event) {
+        for (Consumer<ModelChangeEvent> listener : changeListeners) {
+            listener.accept(event);
+        }
+    }
+
+    private void startPublishing() {
+        addressBook.setChangeListener(this::publish);
+        policyBook.setChangeListener(this::publish);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -225,12 +355,25 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> matchingIds = addressBook.findPersonIdsByName(keywords);
+        filteredPersons.setPredicate(person -> matchingIds.contains(person.getId()));
+    }
+
     //=========== Filtered Policy List Accessors ============================================================
 
     /**
@@ -242,6 +385,12 @@ public class ModelManager implements Model {
         return filteredPolicies;
     }
 
+    @Override
+    public Predicate<? super Policy> getFilteredPolicyListPredicate() {
+        Predicate<? super Policy> predicate = filteredPolicies.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_POLICIES : predicate;
+    }
+
     @Override
     public void updateFilteredPolicyList(Predicate<Policy> predicate) {
         requireNonNull(predicate);
@@ -269,31 +418,112 @@ public class ModelManager implements Model {
 
     //=========== Upcoming Birthdays  ============================================================
 
+    /**
+     * Returns an unmodifiable view of the persons whose birthdays are within the next 30 days, ordered by the date
+     * of their next birthday.
+     * The same list is returned on every call, and it is kept up to date as persons are added, edited or deleted,
+     * by changing only the entries of the persons that changed, or with a single change if many persons changed.
+     */
     @Override
     public ObservableList<Person> getUpcomingBirthdays() {
-        LocalDate today = LocalDate.now();
+        return unmodifiableUpcomingBirthdays;
+    }
 
-        return FXCollections.observableArrayList(
-            filteredUpcomingBirthdays.stream()
-                .filter(p -> p.getBirthday().isWithinNext30Days())
-                .sorted((p1, p2) -> {
-                    LocalDate b1 = p1.getBirthday().getValue().withYear(today.getYear());
-                    LocalDate b2 = p2.getBirthday().getValue().withYear(today.getYear());
+    @Override
+    public void updateUpcomingBirthdays() {
+        upcomingBirthdaysStart = LocalDate.now();
+        findUpcoming();
+    }
 
-                    if (b1.isBefore(today)) {
-                        b1 = b1.plusYears(1);
-                    }
-                    if (b2.isBefore(today)) {
-                        b2 = b2.plusYears(1);
-                    }
+    /**
+     * Finds the upcoming birthdays from {@code upcomingBirthdaysStart} again, as a single change to the list.
+     */
+    private void findUpcoming() {
+        upcomingBirthdays.setAll(
+                addressBook.getPersonsWithUpcomingBirthdays(upcomingBirthdaysStart, UPCOMING_BIRTHDAY_DAYS));
+    }
 
-                    return b1.compareTo(b2);
-                }).collect(Collectors.toList())
-        );
+    /**
+     * Shows the added {@code persons} whose birthdays are upcoming, one by one if there are only a few of them, and
+     * by finding the upcoming birthdays again otherwise.
+     */
+    private void showUpcoming(List<Person> persons) {
+        if (persons.size() > MAX_UPCOMING_CHANGES_IN_PLACE) {
+            findUpcoming();
+            return;
+        }
+        persons.forEach(this::showIfUpcoming);
     }
 
-    @Override
-    public void updateUpcomingBirthdays() {
-        filteredUpcomingBirthdays.setPredicate(p -> p.getBirthday().isWithinNext30Days());
+    /**
+     * Inserts {@code person} into the upcoming birthdays in the order of their next birthday, after the persons
+     * with a birthday on the same day, if their birthday is upcoming and they are not shown yet.
+     */
+    private void showIfUpcoming(Person person) {
+        if (!isUpcoming(person) || indexOfUpcoming(person) >= 0) {
+            return;
+        }
+        int index = upcomingBirthdays.size();
+        while (index > 0 && compareUpcoming(upcomingBirthdays.get(index - 1), person) > 0) {
+            index--;
+        }
+        upcomingBirthdays.add(index, person);
+    }
+
+    /**
+     * Hides the removed {@code persons}, one by one if there are only a few of them, and by finding the upcoming
+     * birthdays again otherwise.
+     */
+    private void hideUpcoming(List<Person> persons) {
+        if (persons.size() > MAX_UPCOMING_CHANGES_IN_PLACE) {
+            findUpcoming();
+            return;
+        }
+        Set<PersonId> ids = persons.stream().map(Person::getId).collect(Collectors.toSet());
+        upcomingBirthdays.removeIf(person -> ids.contains(person.getId()));
+    }
+
+    /**
+     * Replaces {@code before} with {@code after} in the upcoming birthdays, keeping its place if the next birthday
+     * of both is on the same day.
+     */
+    private void replaceUpcoming(Person before, Person after) {
+        int index = indexOfUpcoming(before);
+        if (index >= 0 && isUpcoming(after) && compareUpcoming(before, after) == 0) {
+            upcomingBirthdays.set(index, after);
+            return;
+        }
+        if (index >= 0) {
+            upcomingBirthdays.remove(index);
+        }
+        showIfUpcoming(after);
+    }
+
+    private int indexOfUpcoming(Person person) {
+        for (int i = 0; i < upcomingBirthdays.size(); i++) {
+            if (upcomingBirthdays.get(i).getId().equals(person.getId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isUpcoming(Person person) {
+        LocalDate lastDay = upcomingBirthdaysStart.plusDays(UPCOMING_BIRTHDAY_DAYS);
+        return !BirthdayCalendar.getNextBirthday(person, upcomingBirthdaysStart).isAfter(lastDay);
+    }
+
+    /**
+     * Compares persons by the date of their next birthday, with a birthday on 29 February after one on 28 February
+     * when both fall on 28 February, as {@code BirthdayCalendar} orders them.
+     */
+    private int compareUpcoming(Person first, Person second) {
+        int byNextBirthday = BirthdayCalendar.getNextBirthday(first, upcomingBirthdaysStart)
+                .compareTo(BirthdayCalendar.getNextBirthday(second, upcomingBirthdaysStart));
+        if (byNextBirthday != 0) {
+            return byNextBirthday;
+        }
+        return Integer.compare(first.getBirthday().getValue().getDayOfMonth(),
+                second.getBirthday().getValue().getDayOfMonth());
     }
 }
@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A person added to, replaced in or removed from an address book, as kept in its {@link PersonChangeLog}.
+ */
+public class PersonChange {
+
+    /**
+     * The kinds of change made to a person.
+     */
+    public enum Type {
+        /** The person was added to the end of the person list. */
+        ADDED,
+        /** The person replaced, in place, the person with the same ID. */
+        REPLACED,
+        /** The person was removed from the person list. */
+        REMOVED
+    }
+
+    private final Type type;
+    private final Person person;
+    private final long version;
+
+    /**
+     * Creates a {@code PersonChange} of {@code type} to {@code person}, made in {@code version} of the address book.
+     */
+    PersonChange(Type type, Person person, long version) {
+        this.type = requireNonNull(type);
+        this.person = requireNonNull(person);
+        this.version = version;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person added, the person that replaced another, or the person removed.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the version of the address book right after this change.
+     */
+    long getVersion() {
+        return version;
+    }
+}
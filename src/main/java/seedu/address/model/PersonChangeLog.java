@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The changes made to the persons of an address book over its latest versions, oldest first, so that the changes
+ * made since an earlier version can be found without comparing the whole address book with that version.
+ * A log is an unmodifiable copy, which stays the same as the address book is modified further.
+ */
+public class PersonChangeLog {
+
+    /** The log of an address book whose changes are not known. */
+    public static final PersonChangeLog UNKNOWN =
+            new PersonChangeLog(ReadOnlyAddressBook.UNTRACKED_VERSION, List.of());
+
+    private final long startVersion;
+    private final List<PersonChange> changes;
+
+    /**
+     * Creates a {@code PersonChangeLog} with the {@code changes} made after the version {@code startVersion}.
+     */
+    PersonChangeLog(long startVersion, List<PersonChange> changes) {
+        this.startVersion = startVersion;
+        this.changes = List.copyOf(changes);
+    }
+
+    /**
+     * Returns the changes made since the address book had the version {@code version}, oldest first, or an empty
+     * Optional if they are not all in this log, such as when that version is older than the log or is not a version
+     * of the same address book.
+     */
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        if (version == ReadOnlyAddressBook.UNTRACKED_VERSION) {
+            return Optional.empty();
+        }
+        if (version == startVersion) {
+            return Optional.of(changes);
+        }
+
+        // Several changes made in a single version all have that version
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).getVersion() == version) {
+                return Optional.of(changes.subList(i + 1, changes.size()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    long getStartVersion() {
+        return startVersion;
+    }
+
+    List<PersonChange> getChanges() {
+        return changes;
+    }
+}
@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.UniquePolicyList;
+import seedu.address.model.policy.exceptions.PolicyNotFoundException;
 
 /**
  * Wraps all data at the policy-book level
@@ -15,7 +22,18 @@ import seedu.address.model.policy.UniquePolicyList;
  */
 public class PolicyBook implements ReadOnlyPolicyBook {
 
+    /** Source of versions, shared by all policy books so that no two of them ever have the same version. */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
+    /** Makes the changes to the policy list of the policy book of the books. */
+    private static final ListDelta.Maker<Policy> POLICY_LIST =
+            (addressBook, policyBook, change) -> policyBook.make(change);
+
     private final UniquePolicyList polycies;
+    private final ListDelta.EntryList<Policy> policyList = new PolicyList();
+    private long version;
+    private Consumer<Delta> deltaRecorder;
+    private Consumer<ModelChangeEvent> changeListener;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +44,7 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      */
     {
         polycies = new UniquePolicyList();
+        version = latestVersion.incrementAndGet();
     }
 
     public PolicyBook() {}
@@ -45,7 +64,7 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      * {@code polycies} must not contain duplicate polycies.
      */
     public void setPolicys(List<Policy> polycies) {
-        this.polycies.setPolicy(polycies);
+        make(new ListDelta.Reset<>(POLICY_LIST, List.copyOf(getPolicyList()), List.copyOf(polycies)));
     }
 
     /**
@@ -72,7 +91,31 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      * The policy must not already exist in the policy book.
      */
     public void addPolicy(Policy p) {
-        polycies.add(p);
+        requireNonNull(p);
+        int[] positions = ListDelta.positionsFrom(getPolicyList().size(), 1);
+        make(new ListDelta.Inserted<>(POLICY_LIST, positions, List.of(p)));
+    }
+
+    /**
+     * Removes the policies at {@code removePositions}, replaces the policies at the positions that are keys of
+     * {@code replacements} and adds {@code toAdd} to the end, as a single change to the policy list. The positions
+     * are those in the list before the change, with {@code removePositions} in ascending order.
+     * Used to apply a batch of changes staged apart from the policy book.
+     */
+    void applyChanges(int[] removePositions, Map<Integer, Policy> replacements, List<Policy> toAdd) {
+        List<Policy> removed = Arrays.stream(removePositions)
+                .mapToObj(getPolicyList()::get)
+                .collect(Collectors.toList());
+        int[] replacePositions = replacements.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        List<Policy> replaced = Arrays.stream(replacePositions)
+                .mapToObj(getPolicyList()::get)
+                .collect(Collectors.toList());
+        List<Policy> replacing = Arrays.stream(replacePositions)
+                .mapToObj(replacements::get)
+                .collect(Collectors.toList());
+        int[] insertPositions = ListDelta.positionsFrom(getPolicyList().size() - removed.size(), toAdd.size());
+        make(new ListDelta.Batch<>(POLICY_LIST, removePositions, removed, replacePositions, replaced, replacing,
+                insertPositions, List.copyOf(toAdd)));
     }
 
     /**
@@ -83,8 +126,7 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      */
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireNonNull(editedPolicy);
-
-        polycies.setPolicy(target, editedPolicy);
+        make(new ListDelta.Replaced<>(POLICY_LIST, target, editedPolicy));
     }
 
     /**
@@ -92,11 +134,70 @@ public class PolicyBook implements ReadOnlyPolicyBook {
      * {@code key} must exist in the policy book.
      */
     public void removePolicy(Policy key) {
-        polycies.remove(key);
+        requireNonNull(key);
+        removePolicies(List.of(key));
+    }
+
+    /**
+     * Removes {@code keys} from this {@code PolicyBook} as a single change to the policy list.
+     * The keys must all exist in the policy book.
+     */
+    public void removePolicies(Collection<Policy> keys) {
+        int[] positions = keys.stream()
+                .mapToInt(polycies::indexOf)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (positions.length > 0 && positions[0] == -1) {
+            throw new PolicyNotFoundException();
+        }
+        List<Policy> removed = Arrays.stream(positions)
+                .mapToObj(getPolicyList()::get)
+                .collect(Collectors.toList());
+        make(new ListDelta.Removed<>(POLICY_LIST, positions, removed));
     }
 
     //// util methods
 
+    /**
+     * Passes every later change to this policy book to {@code deltaRecorder}, or stops passing them if it is null.
+     */
+    void setDeltaRecorder(Consumer<Delta> deltaRecorder) {
+        this.deltaRecorder = deltaRecorder;
+    }
+
+    /**
+     * Passes an event for every later change to this policy book to {@code changeListener}, or stops passing them
+     * if it is null.
+     */
+    void setChangeListener(Consumer<ModelChangeEvent> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Makes {@code change} to the policy list, and then updates the version, records the change and publishes that
+     * the policies changed.
+     */
+    private void make(ListDelta<Policy> change) {
+        change.makeTo(policyList);
+        markModified();
+        if (deltaRecorder != null) {
+            deltaRecorder.accept(change);
+        }
+        if (changeListener != null) {
+            changeListener.accept(new ModelChangeEvent.PolicyChanged());
+        }
+    }
+
+    private void markModified() {
+        version = latestVersion.incrementAndGet();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -128,4 +229,35 @@ public class PolicyBook implements ReadOnlyPolicyBook {
     public int hashCode() {
         return polycies.hashCode();
     }
+
+    /**
+     * The policy list, which changes to the policy book are made to.
+     */
+    private class PolicyList implements ListDelta.EntryList<Policy> {
+        @Override
+        public void insertAll(int[] positions, List<Policy> entries) {
+            polycies.insertAll(positions, entries);
+        }
+
+        @Override
+        public void removeAll(List<Policy> entries) {
+            polycies.removeAll(entries);
+        }
+
+        @Override
+        public void set(Policy target, Policy edited) {
+            polycies.setPolicy(target, edited);
+        }
+
+        @Override
+        public void setAll(List<Policy> entries) {
+            polycies.setPolicy(entries);
+        }
+
+        @Override
+        public void applyAll(int[] removePositions, Map<Integer, Policy> replacements, int[] insertPositions,
+                List<Policy> toInsert) {
+            polycies.applyAll(removePositions, replacements, insertPositions, toInsert);
+        }
+    }
 }
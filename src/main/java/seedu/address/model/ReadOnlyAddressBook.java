@@ -8,10 +8,32 @@ import seedu.address.model.person.Person;
  */
 public interface ReadOnlyAddressBook {
 
+    /** The version of books that do not track their modifications. */
+    long UNTRACKED_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the version of the contents of this address book.
+     * The version changes whenever the contents are modified, and no two versions of any address books are
+     * the same, except for a copy that has not been modified yet, so a book that still has a saved version has not
+     * been modified since it was saved.
+     * Books that do not track their modifications return {@link #UNTRACKED_VERSION}.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
+
+    /**
+     * Returns the log of the latest changes to the persons of this address book.
+     * Books that do not track their modifications return {@link PersonChangeLog#UNKNOWN}.
+     */
+    default PersonChangeLog getPersonChangeLog() {
+        return PersonChangeLog.UNKNOWN;
+    }
+
 }
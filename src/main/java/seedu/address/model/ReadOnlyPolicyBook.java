@@ -8,9 +8,22 @@ import seedu.address.model.policy.Policy;
  */
 public interface ReadOnlyPolicyBook {
 
+    /** The version of books that do not track their modifications. */
+    long UNTRACKED_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the policy list
      * This list will not contain any duplicate policy
      */
     ObservableList<Policy> getPolicyList();
+
+    /**
+     * Returns the version of the contents of this policy book.
+     * The version changes whenever the contents are modified, and no two versions of any policy books are
+     * the same, so a book that still has a saved version has not been modified since it was saved.
+     * Books that do not track their modifications return {@link #UNTRACKED_VERSION}.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
 }
@@ -13,5 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    UserPrefs.AddressBookStorageFormat getAddressBookStorageFormat();
+
     Path getPolicyBookFilePath();
+
+    int getUndoHistorySize();
 }
@@ -0,0 +1,327 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Changes to the list of persons or policies of a book, staged apart from the list until they are applied to it as
+ * a single change.
+ * Only the entries that the changes touch are held: the positions of the entries removed from the list, the
+ * replacements of the entries replaced in place, and the entries added to the end. Whether an entry is unique is
+ * checked against the identities of the staged entries together with the identity check of the book, so staging a
+ * change costs about as much as making it to the book itself.
+ *
+ * @param <T> the type of the entries.
+ * @param <K> the type of the identity of an entry, which is the same for two entries if and only if they are the
+ *     same person or policy.
+ */
+abstract class StagedList<T, K> {
+
+    private final List<T> list;
+    private final TreeSet<Integer> removedPositions = new TreeSet<>();
+    private final Map<Integer, T> replacements = new HashMap<>();
+    private final List<T> added = new ArrayList<>();
+    /** The identities of the entries of the list that were removed or replaced. */
+    private final Set<K> releasedKeys = new HashSet<>();
+    /** The identities of the replacements and the added entries. */
+    private final Set<K> stagedKeys = new HashSet<>();
+    private boolean isListReplaced;
+    private final List<T> view = new View();
+
+    /**
+     * Creates a {@code StagedList} with no changes to {@code list}, which must not change until the changes are
+     * applied.
+     */
+    StagedList(List<T> list) {
+        this.list = requireNonNull(list);
+    }
+
+    /**
+     * Returns true if an entry with the same identity as {@code entry} is in the list once the changes are applied.
+     */
+    boolean contains(T entry) {
+        requireNonNull(entry);
+        K key = getIdentityKey(entry);
+        return stagedKeys.contains(key) || (!isListReplaced && !releasedKeys.contains(key) && isInList(entry));
+    }
+
+    /**
+     * Returns the position of {@code entry} in the list once the changes are applied, or -1 if it is not in it.
+     */
+    int indexOf(T entry) {
+        requireNonNull(entry);
+        int index = added.indexOf(entry);
+        if (index != -1) {
+            return getListSize() - removedPositions.size() + index;
+        }
+        int position = findListPosition(entry);
+        return position == -1 ? -1 : position - removedPositions.headSet(position).size();
+    }
+
+    /**
+     * Adds {@code entries} to the end of the list.
+     * None of the entries may already be in the list, and they must be unique among themselves.
+     */
+    void addAll(Collection<T> entries) {
+        Set<K> addedKeys = new HashSet<>();
+        for (T entry : entries) {
+            if (contains(entry) || !addedKeys.add(getIdentityKey(entry))) {
+                throw createDuplicateException();
+            }
+        }
+        added.addAll(entries);
+        stagedKeys.addAll(addedKeys);
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited}.
+     * {@code target} must be in the list, and the identity of {@code edited} must not be the same as that of
+     * another entry in the list.
+     */
+    void set(T target, T edited) {
+        requireNonNull(edited);
+        int index = added.indexOf(target);
+        int position = index == -1 ? findListPosition(target) : -1;
+        if (position == -1 && index == -1) {
+            throw createNotFoundException();
+        }
+
+        T stored = position != -1 ? getFromList(position) : added.get(index);
+        K storedKey = getIdentityKey(stored);
+        K editedKey = getIdentityKey(edited);
+        if (!storedKey.equals(editedKey) && contains(edited)) {
+            throw createDuplicateException();
+        }
+
+        if (position != -1 && !replacements.containsKey(position)) {
+            releasedKeys.add(storedKey);
+        } else {
+            stagedKeys.remove(storedKey);
+        }
+        if (position != -1) {
+            replacements.put(position, edited);
+        } else {
+            added.set(index, edited);
+        }
+        stagedKeys.add(editedKey);
+    }
+
+    /**
+     * Removes {@code target}, which must be in the list.
+     */
+    void remove(T target) {
+        int index = added.indexOf(target);
+        if (index != -1) {
+            T stored = added.remove(index);
+            stagedKeys.remove(getIdentityKey(stored));
+            return;
+        }
+
+        int position = findListPosition(target);
+        if (position == -1) {
+            throw createNotFoundException();
+        }
+        T stored = getFromList(position);
+        if (replacements.remove(position) != null) {
+            stagedKeys.remove(getIdentityKey(stored));
+        } else {
+            releasedKeys.add(getIdentityKey(stored));
+        }
+        removedPositions.add(position);
+    }
+
+    /**
+     * Removes {@code targets}, which must all be in the list.
+     */
+    void removeAll(Collection<T> targets) {
+        Set<T> distinctTargets = new HashSet<>(targets);
+        for (T target : distinctTargets) {
+            if (indexOf(target) == -1) {
+                throw createNotFoundException();
+            }
+        }
+        distinctTargets.forEach(this::remove);
+    }
+
+    /**
+     * Replaces all the entries with {@code entries}, which must be unique.
+     */
+    void setAll(List<T> entries) {
+        Set<K> keys = new HashSet<>();
+        for (T entry : entries) {
+            if (!keys.add(getIdentityKey(entry))) {
+                throw createDuplicateException();
+            }
+        }
+        isListReplaced = true;
+        removedPositions.clear();
+        replacements.clear();
+        releasedKeys.clear();
+        added.clear();
+        added.addAll(entries);
+        stagedKeys.clear();
+        stagedKeys.addAll(keys);
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries of the list once the changes are applied, which follows the changes
+     * as they are staged.
+     * Getting an entry costs about as much as the number of removed entries before it, rather than the size of the
+     * list.
+     */
+    List<T> asList() {
+        return view;
+    }
+
+    /**
+     * Returns the changes staged so far, which {@link #restore} goes back to.
+     */
+    Savepoint<T, K> save() {
+        return new Savepoint<>(this);
+    }
+
+    /**
+     * Discards the changes staged since {@code savepoint} was saved.
+     */
+    void restore(Savepoint<T, K> savepoint) {
+        requireNonNull(savepoint);
+        removedPositions.clear();
+        removedPositions.addAll(savepoint.removedPositions);
+        replacements.clear();
+        replacements.putAll(savepoint.replacements);
+        added.clear();
+        added.addAll(savepoint.added);
+        releasedKeys.clear();
+        releasedKeys.addAll(savepoint.releasedKeys);
+        stagedKeys.clear();
+        stagedKeys.addAll(savepoint.stagedKeys);
+        isListReplaced = savepoint.isListReplaced;
+    }
+
+    /**
+     * Applies the changes to the list as a single change, with {@link #replaceList} if all the entries were replaced
+     * and with {@link #applyChanges} otherwise. The list is left as it is if nothing changed.
+     */
+    void apply() {
+        if (isListReplaced) {
+            replaceList(List.copyOf(added));
+        } else if (!removedPositions.isEmpty() || !replacements.isEmpty() || !added.isEmpty()) {
+            int[] positions = removedPositions.stream().mapToInt(Integer::intValue).toArray();
+            applyChanges(positions, Map.copyOf(replacements), List.copyOf(added));
+        }
+    }
+
+    /**
+     * Returns the position in the list of the entry equal to {@code entry}, if it is still in the list, as it was or
+     * replaced. Returns -1 otherwise.
+     */
+    private int findListPosition(T entry) {
+        if (isListReplaced) {
+            return -1;
+        }
+        for (Map.Entry<Integer, T> replacement : replacements.entrySet()) {
+            if (replacement.getValue().equals(entry)) {
+                return replacement.getKey();
+            }
+        }
+        int position = indexInList(entry);
+        boolean isStillInList = position != -1 && !removedPositions.contains(position)
+                && !replacements.containsKey(position);
+        return isStillInList ? position : -1;
+    }
+
+    private T getFromList(int position) {
+        T replacement = replacements.get(position);
+        return replacement == null ? list.get(position) : replacement;
+    }
+
+    private int getListSize() {
+        return isListReplaced ? 0 : list.size();
+    }
+
+    abstract K getIdentityKey(T entry);
+
+    /**
+     * Returns true if the list itself has an entry with the same identity as {@code entry}.
+     */
+    abstract boolean isInList(T entry);
+
+    /**
+     * Returns the position of {@code entry} in the list itself, or -1 if it is not in it.
+     */
+    abstract int indexInList(T entry);
+
+    abstract RuntimeException createDuplicateException();
+
+    abstract RuntimeException createNotFoundException();
+
+    /**
+     * Removes the entries at {@code removePositions}, in ascending order, replaces the entries at the positions that
+     * are keys of {@code replacements} and adds {@code toAdd} to the end, as a single change to the list.
+     */
+    abstract void applyChanges(int[] removePositions, Map<Integer, T> replacements, List<T> toAdd);
+
+    /**
+     * Replaces all the entries of the list with {@code entries}.
+     */
+    abstract void replaceList(List<T> entries);
+
+    /**
+     * The entries of the list once the changes are applied, read through the changes.
+     */
+    private class View extends AbstractList<T> {
+        @Override
+        public T get(int index) {
+            int keptSize = getListSize() - removedPositions.size();
+            if (index >= keptSize) {
+                return added.get(index - keptSize);
+            }
+            if (index < 0) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int position = index;
+            for (int removedPosition : removedPositions) {
+                if (removedPosition > position) {
+                    break;
+                }
+                position++;
+            }
+            return getFromList(position);
+        }
+
+        @Override
+        public int size() {
+            return getListSize() - removedPositions.size() + added.size();
+        }
+    }
+
+    /**
+     * A copy of the changes staged to a {@code StagedList} at some point.
+     */
+    static final class Savepoint<T, K> {
+        private final Set<Integer> removedPositions;
+        private final Map<Integer, T> replacements;
+        private final List<T> added;
+        private final Set<K> releasedKeys;
+        private final Set<K> stagedKeys;
+        private final boolean isListReplaced;
+
+        private Savepoint(StagedList<T, K> stagedList) {
+            removedPositions = Set.copyOf(stagedList.removedPositions);
+            replacements = Map.copyOf(stagedList.replacements);
+            added = List.copyOf(stagedList.added);
+            releasedKeys = Set.copyOf(stagedList.releasedKeys);
+            stagedKeys = Set.copyOf(stagedList.stagedKeys);
+            isListReplaced = stagedList.isListReplaced;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityKey;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.policy.Policy;
+import seedu.address.model.policy.PolicyNumber;
+import seedu.address.model.policy.exceptions.DuplicatePolicyException;
+import seedu.address.model.policy.exceptions.PolicyNotFoundException;
+
+/**
+ * The model given to the changes of a batch, which stages the changes apart from the books of a
+ * {@code ModelManager} until they have all been made.
+ * Only the persons and policies that the changes touch are held, in {@code StagedList}s over the lists of the books,
+ * and the books record and publish the changes to each list as a single change once they are applied. The user
+ * prefs, the changes to the user profile and the predicates of the filtered lists are staged in the same way.
+ */
+class StagedModel implements Model {
+
+    static final String MESSAGE_SAVE_IN_BATCH = "The user profile cannot be saved in a batch of changes";
+
+    private final ModelManager model;
+    private final StagedPersons stagedPersons;
+    private final StagedPolicies stagedPolicies;
+    private final ObservableList<Person> stagedPersonList;
+    private final ObservableList<Policy> stagedPolicyList;
+    private final UserPrefs userPrefs;
+    private final List<Runnable> profileChanges = new ArrayList<>();
+    private Predicate<? super Person> personPredicate;
+    private Predicate<? super Policy> policyPredicate;
+    /** The shown persons, or null if they have to be filtered again. */
+    private FilteredList<Person> filteredPersons;
+    /** The shown policies, or null if they have to be filtered again. */
+    private FilteredList<Policy> filteredPolicies;
+
+    /**
+     * Creates a {@code StagedModel} with no changes to {@code model}, whose books are {@code addressBook} and
+     * {@code policyBook}, and whose filtered lists are shown with {@code personPredicate} and
+     * {@code policyPredicate}.
+     */
+    StagedModel(ModelManager model, AddressBook addressBook, PolicyBook policyBook,
+            Predicate<? super Person> personPredicate, Predicate<? super Policy> policyPredicate) {
+        requireAllNonNull(model, addressBook, policyBook);
+        this.model = model;
+        stagedPersons = new StagedPersons(addressBook);
+        stagedPolicies = new StagedPolicies(policyBook);
+        stagedPersonList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(stagedPersons.asList()));
+        stagedPolicyList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(stagedPolicies.asList()));
+        userPrefs = new UserPrefs(model.getUserPrefs());
+        this.personPredicate = personPredicate;
+        this.policyPredicate = policyPredicate;
+    }
+
+    /**
+     * Applies the staged changes to the books, each as a single change, and then the changes to the user profile.
+     * If the changes to the persons cannot be applied, nothing is applied.
+     */
+    void apply() {
+        stagedPersons.apply();
+        stagedPolicies.apply();
+        profileChanges.forEach(Runnable::run);
+    }
+
+    Predicate<? super Person> getPersonPredicate() {
+        return personPredicate;
+    }
+
+    Predicate<? super Policy> getPolicyPredicate() {
+        return policyPredicate;
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    @Override
+    public Path getPolicyBookFilePath() {
+        return userPrefs.getPolicyBookFilePath();
+    }
+
+    @Override
+    public void setPolicyBookFilePath(Path policyBookPath) {
+        requireNonNull(policyBookPath);
+        userPrefs.setPolicyBookFilePath(policyBookPath);
+    }
+
+    @Override
+    public Path getUserProfileFilePath() {
+        return userPrefs.getUserProfileFilePath();
+    }
+
+    @Override
+    public void setUserProfileFilePath(Path userProfileFilePath) {
+        requireNonNull(userProfileFilePath);
+        userPrefs.setUserProfileFilePath(userProfileFilePath);
+    }
+
+    @Override
+    public UserProfile getUserProfile() {
+        return model.getUserProfile();
+    }
+
+    /**
+     * Stages setting the user profile, which is done once the other changes of the batch are applied.
+     */
+    @Override
+    public void setUserProfile(UserProfile currentProfile, UserProfile userProfile) {
+        requireAllNonNull(currentProfile, userProfile);
+        profileChanges.add(() -> model.setUserProfile(currentProfile, userProfile));
+    }
+
+    /**
+     * Always fails, as saving the user profile to storage could not be undone if a later change of the batch failed.
+     *
+     * @throws IOException always.
+     */
+    @Override
+    public void saveUserProfile(UserProfile userProfile) throws IOException {
+        throw new IOException(MESSAGE_SAVE_IN_BATCH);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        stagedPersons.setAll(List.copyOf(addressBook.getPersonList()));
+        filteredPersons = null;
+    }
+
+    /**
+     * Returns a view of the address book with the staged changes, which follows the changes as they are staged.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return () -> stagedPersonList;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return stagedPersons.contains(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        stagedPersons.remove(target);
+        filteredPersons = null;
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        stagedPersons.removeAll(targets);
+        filteredPersons = null;
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        addPersons(List.of(person));
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        stagedPersons.addAll(persons);
+        filteredPersons = null;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        stagedPersons.set(target, editedPerson);
+        filteredPersons = null;
+    }
+
+    //=========== PolicyBook ================================================================================
+
+    @Override
+    public void setPolicyBook(ReadOnlyPolicyBook policyBook) {
+        requireNonNull(policyBook);
+        stagedPolicies.setAll(List.copyOf(policyBook.getPolicyList()));
+        filteredPolicies = null;
+    }
+
+    /**
+     * Returns a view of the policy book with the staged changes, which follows the changes as they are staged.
+     */
+    @Override
+    public ReadOnlyPolicyBook getPolicyBook() {
+        return () -> stagedPolicyList;
+    }
+
+    @Override
+    public boolean hasPolicy(Policy policy) {
+        requireNonNull(policy);
+        return stagedPolicies.contains(policy);
+    }
+
+    @Override
+    public void deletePolicy(Policy target) {
+        stagedPolicies.remove(target);
+        filteredPolicies = null;
+    }
+
+    @Override
+    public void deletePolicies(Collection<Policy> targets) {
+        requireNonNull(targets);
+        stagedPolicies.removeAll(targets);
+        filteredPolicies = null;
+    }
+
+    @Override
+    public void addPolicy(Policy policy) {
+        requireNonNull(policy);
+        stagedPolicies.addAll(List.of(policy));
+        filteredPolicies = null;
+        updateFilteredPolicyList(PREDICATE_SHOW_ALL_POLICIES);
+    }
+
+    @Override
+    public void setPolicy(Policy target, Policy editedPolicy) {
+        requireAllNonNull(target, editedPolicy);
+        stagedPolicies.set(target, editedPolicy);
+        filteredPolicies = null;
+    }
+
+    //=========== Batch and Undo/Redo ========================================================================
+
+    /**
+     * Stages the changes that {@code changes} makes to this model as part of this batch.
+     * If {@code changes} throws an exception, the changes it staged are discarded and the exception is rethrown.
+     */
+    @Override
+    public void batch(Consumer<Model> changes) {
+        requireNonNull(changes);
+        StagedList.Savepoint<Person, PersonIdentityKey> personsSavepoint = stagedPersons.save();
+        StagedList.Savepoint<Policy, PolicyNumber> policiesSavepoint = stagedPolicies.save();
+        UserPrefs savedUserPrefs = new UserPrefs(userPrefs);
+        int profileChangeCount = profileChanges.size();
+        Predicate<? super Person> savedPersonPredicate = personPredicate;
+        Predicate<? super Policy> savedPolicyPredicate = policyPredicate;
+        try {
+            changes.accept(this);
+        } catch (RuntimeException | Error e) {
+            stagedPersons.restore(personsSavepoint);
+            stagedPolicies.restore(policiesSavepoint);
+            userPrefs.resetData(savedUserPrefs);
+            profileChanges.subList(profileChangeCount, profileChanges.size()).clear();
+            personPredicate = savedPersonPredicate;
+            policyPredicate = savedPolicyPredicate;
+            filteredPersons = null;
+            filteredPolicies = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Does nothing, as the changes of the batch are committed together by the model the batch is applied to.
+     */
+    @Override
+    public void commitChanges() {
+    }
+
+    @Override
+    public boolean canUndo() {
+        return false;
+    }
+
+    @Override
+    public void undo() {
+        assert canUndo() : "There is no step to undo in a batch of changes";
+    }
+
+    @Override
+    public boolean canRedo() {
+        return false;
+    }
+
+    @Override
+    public void redo() {
+        assert canRedo() : "There is no step to redo in a batch of changes";
+    }
+
+    //=========== Change Events ==============================================================================
+
+    /**
+     * Subscribes {@code listener} to the changes of the model the batch is applied to, which include the changes of
+     * the batch once they are applied.
+     */
+    @Override
+    public <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener) {
+        model.subscribe(eventType, listener);
+    }
+
+    //=========== Filtered Lists =============================================================================
+
+    /**
+     * Returns the persons of {@link #getAddressBook()} that are shown.
+     * They are filtered again only when asked for after a change was staged or the predicate was updated.
+     */
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        if (filteredPersons == null) {
+            filteredPersons = new FilteredList<>(stagedPersonList, personPredicate);
+        }
+        return filteredPersons;
+    }
+
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        return personPredicate == null ? PREDICATE_SHOW_ALL_PERSONS : personPredicate;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        personPredicate = predicate;
+        filteredPersons = null;
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        personPredicate = new NameContainsKeywordsPredicate(keywords);
+        filteredPersons = null;
+    }
+
+    /**
+     * Returns the policies of {@link #getPolicyBook()} that are shown.
+     * They are filtered again only when asked for after a change was staged or the predicate was updated.
+     */
+    @Override
+    public ObservableList<Policy> getFilteredPolicyList() {
+        if (filteredPolicies == null) {
+            filteredPolicies = new FilteredList<>(stagedPolicyList, policyPredicate);
+        }
+        return filteredPolicies;
+    }
+
+    @Override
+    public Predicate<? super Policy> getFilteredPolicyListPredicate() {
+        return policyPredicate == null ? PREDICATE_SHOW_ALL_POLICIES : policyPredicate;
+    }
+
+    @Override
+    public void updateFilteredPolicyList(Predicate<Policy> predicate) {
+        requireNonNull(predicate);
+        policyPredicate = predicate;
+        filteredPolicies = null;
+    }
+
+    //=========== Upcoming Birthdays  ============================================================
+
+    /**
+     * Returns the upcoming birthdays of the model the batch is applied to, which are updated once the changes of the
+     * batch are applied.
+     */
+    @Override
+    public ObservableList<Person> getUpcomingBirthdays() {
+        return model.getUpcomingBirthdays();
+    }
+
+    @Override
+    public void updateUpcomingBirthdays() {
+        model.updateUpcomingBirthdays();
+    }
+
+    /**
+     * Changes staged to the persons of an {@code AddressBook}.
+     */
+    private static class StagedPersons extends StagedList<Person, PersonIdentityKey> {
+        private final AddressBook addressBook;
+
+        StagedPersons(AddressBook addressBook) {
+            super(addressBook.getPersonList());
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        PersonIdentityKey getIdentityKey(Person person) {
+            return PersonIdentityKey.of(person);
+        }
+
+        @Override
+        boolean isInList(Person person) {
+            return addressBook.hasPerson(person);
+        }
+
+        @Override
+        int indexInList(Person person) {
+            return addressBook.indexOf(person);
+        }
+
+        @Override
+        RuntimeException createDuplicateException() {
+            return new DuplicatePersonException();
+        }
+
+        @Override
+        RuntimeException createNotFoundException() {
+            return new PersonNotFoundException();
+        }
+
+        @Override
+        void applyChanges(int[] removePositions, Map<Integer, Person> replacements, List<Person> toAdd) {
+            addressBook.applyChanges(removePositions, replacements, toAdd);
+        }
+
+        @Override
+        void replaceList(List<Person> persons) {
+            addressBook.setPersons(persons);
+        }
+    }
+
+    /**
+     * Changes staged to the policies of a {@code PolicyBook}.
+     */
+    private static class StagedPolicies extends StagedList<Policy, PolicyNumber> {
+        private final PolicyBook policyBook;
+
+        StagedPolicies(PolicyBook policyBook) {
+            super(policyBook.getPolicyList());
+            this.policyBook = policyBook;
+        }
+
+        @Override
+        PolicyNumber getIdentityKey(Policy policy) {
+            return policy.getPolicyNumber();
+        }
+
+        @Override
+        boolean isInList(Policy policy) {
+            return policyBook.hasPolicy(policy);
+        }
+
+        @Override
+        int indexInList(Policy policy) {
+            return policyBook.getPolicyList().indexOf(policy);
+        }
+
+        @Override
+        RuntimeException createDuplicateException() {
+            return new DuplicatePolicyException();
+        }
+
+        @Override
+        RuntimeException createNotFoundException() {
+            return new PolicyNotFoundException();
+        }
+
+        @Override
+        void applyChanges(int[] removePositions, Map<Integer, Policy> replacements, List<Policy> toAdd) {
+            policyBook.applyChanges(removePositions, replacements, toAdd);
+        }
+
+        @Override
+        void replaceList(List<Policy> policies) {
+            policyBook.setPolicys(policies);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,10 +14,25 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The ways in which the address book can be stored.
+     */
+    public enum AddressBookStorageFormat {
+        /** The whole address book is written to a json file on every save. */
+        JSON,
+        /** Changes are appended to a journal next to a json snapshot of the address book. */
+        JOURNAL
+    }
+
+    /** The number of steps of changes that can be undone by default. */
+    public static final int DEFAULT_UNDO_HISTORY_SIZE = 100;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
+    private AddressBookStorageFormat addressBookStorageFormat = AddressBookStorageFormat.JSON;
     private Path policyBookFilePath = Paths.get("data", "policybook.json");
     private Path userProfileFilePath = Paths.get("data", "userprofile.json");
+    private int undoHistorySize = DEFAULT_UNDO_HISTORY_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,7 +54,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
         setPolicyBookFilePath(newUserPrefs.getPolicyBookFilePath());
+        setUndoHistorySize(newUserPrefs.getUndoHistorySize());
 
     }
 
@@ -60,6 +78,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookStorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(AddressBookStorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
     public Path getPolicyBookFilePath() {
         return policyBookFilePath;
     }
@@ -78,6 +105,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.userProfileFilePath = userProfileFilePath;
     }
 
+    public int getUndoHistorySize() {
+        return undoHistorySize;
+    }
+
+    /**
+     * Sets the number of steps of changes that can be undone, which must not be negative. Zero disables undo.
+     */
+    public void setUndoHistorySize(int undoHistorySize) {
+        checkArgument(undoHistorySize >= 0, "Undo history size must not be negative");
+        this.undoHistorySize = undoHistorySize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +131,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && policyBookFilePath.equals(otherUserPrefs.policyBookFilePath);
+                && addressBookStorageFormat.equals(otherUserPrefs.addressBookStorageFormat)
+                && policyBookFilePath.equals(otherUserPrefs.policyBookFilePath)
+                && undoHistorySize == otherUserPrefs.undoHistorySize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, policyBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, policyBookFilePath,
+                undoHistorySize);
     }
 
     @Override
@@ -105,8 +147,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location (AddressBook) : " + addressBookFilePath);
+        sb.append("\nStorage format (AddressBook) : " + addressBookStorageFormat);
         sb.append("\nLocal data file location (PolicyBook) : " + policyBookFilePath);
         sb.append("\nLocal data file location (UserProfile) : " + userProfileFilePath);
+        sb.append("\nUndo history size : " + undoHistorySize);
         return sb.toString();
     }
 
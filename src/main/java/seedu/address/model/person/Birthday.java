@@ -30,8 +30,9 @@ public class Birthday {
      */
     public Birthday(String birthday) {
         requireNonNull(birthday);
-        checkArgument(isValidBirthday(birthday), MESSAGE_CONSTRAINTS);
-        this.value = LocalDate.parse(birthday, FORMATTER);
+        LocalDate date = parseIfValid(birthday);
+        checkArgument(date != null, MESSAGE_CONSTRAINTS);
+        this.value = date;
     }
 
     /**
@@ -47,12 +48,19 @@ public class Birthday {
      * Returns true if given string is a valid birthday.
      */
     public static boolean isValidBirthday(String test) {
+        return parseIfValid(test) != null;
+    }
+
+    /**
+     * Returns the date of {@code test} if it is a valid birthday, or null otherwise.
+     */
+    private static LocalDate parseIfValid(String test) {
         try {
             LocalDate date = LocalDate.parse(test, FORMATTER);
             int year = date.getYear();
-            return year >= MIN_YEAR && !date.isAfter(LocalDate.now());
+            return year >= MIN_YEAR && !date.isAfter(LocalDate.now()) ? date : null;
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of persons bucketed by the month and day of their birthdays.
+ * Upcoming birthdays are found by walking the buckets of the days in the requested range, without looking at the
+ * persons whose birthdays fall outside it.
+ * The index must be told of every person added to, replaced in or removed from the list it describes.
+ */
+public class BirthdayCalendar {
+
+    /** A leap year, so that every month and day, including 29 February, has a bucket. */
+    private static final int BUCKET_YEAR = 2000;
+    private static final int DAYS_IN_BUCKET_YEAR = 366;
+    private static final int FEBRUARY_29_BUCKET = LocalDate.of(BUCKET_YEAR, Month.FEBRUARY, 29).getDayOfYear() - 1;
+
+    private final List<Map<PersonId, Person>> buckets = new ArrayList<>(DAYS_IN_BUCKET_YEAR);
+
+    /**
+     * Creates an empty {@code BirthdayCalendar}.
+     */
+    public BirthdayCalendar() {
+        for (int i = 0; i < DAYS_IN_BUCKET_YEAR; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the bucket of their birthday.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        buckets.get(bucketOf(person.getBirthday().getValue())).put(person.getId(), person);
+    }
+
+    /**
+     * Removes {@code person} from the bucket of their birthday.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        buckets.get(bucketOf(person.getBirthday().getValue())).remove(person.getId());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     * If both have the same ID and birthday, {@code editedPerson} keeps the place of {@code target} in its bucket.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        int targetBucket = bucketOf(target.getBirthday().getValue());
+        if (targetBucket == bucketOf(editedPerson.getBirthday().getValue())
+                && target.getId().equals(editedPerson.getId())) {
+            buckets.get(targetBucket).put(editedPerson.getId(), editedPerson);
+            return;
+        }
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the whole index with {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        buckets.forEach(Map::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose next birthday falls on one of the {@code days} days after {@code start},
+     * or on {@code start} itself, ordered by the date of that birthday.
+     * A birthday on 29 February falls on 28 February in years that are not leap years.
+     */
+    public List<Person> getPersonsWithBirthdaysWithin(LocalDate start, int days) {
+        requireNonNull(start);
+        assert days >= 0 && days < DAYS_IN_BUCKET_YEAR - 1 : "range must not wrap onto the same day twice";
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= days; i++) {
+            LocalDate date = start.plusDays(i);
+            persons.addAll(buckets.get(bucketOf(date)).values());
+            if (!date.isLeapYear() && date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 28) {
+                persons.addAll(buckets.get(FEBRUARY_29_BUCKET).values());
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the date of the next birthday of {@code person} on or after {@code start}.
+     * A birthday on 29 February falls on 28 February in years that are not leap years.
+     */
+    public static LocalDate getNextBirthday(Person person, LocalDate start) {
+        requireNonNull(person);
+        requireNonNull(start);
+        LocalDate birthday = person.getBirthday().getValue();
+        LocalDate birthdayThisYear = birthday.withYear(start.getYear());
+        return birthdayThisYear.isBefore(start) ? birthday.withYear(start.getYear() + 1) : birthdayThisYear;
+    }
+
+    private static int bucketOf(LocalDate date) {
+        return date.withYear(BUCKET_YEAR).getDayOfYear() - 1;
+    }
+}
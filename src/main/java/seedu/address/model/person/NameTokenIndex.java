@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words of persons' names to the IDs of those persons.
+ * Words are matched ignoring case, in the same way as {@link NameContainsKeywordsPredicate}.
+ * The index must be told of every person added to, replaced in or removed from the list it describes.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<PersonId>> idsByToken = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code person}'s name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            idsByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes the words of {@code person}'s name from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<PersonId> ids = idsByToken.get(token);
+            if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                idsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the index entries of {@code target} with those of {@code editedPerson}.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the whole index with the words of the names of {@code persons}.
+     */
+    public void reset(Collection<Person> persons) {
+        idsByToken.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the IDs of the persons whose names contain any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<PersonId> findIds(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<PersonId> ids = idsByToken.get(foldCase(keyword.trim()));
+            if (ids != null) {
+                matches.addAll(ids);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Splits {@code name} into its case-folded words.
+     */
+    private static List<String> tokenize(String name) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || Character.isWhitespace(name.charAt(i))) {
+                if (i > start) {
+                    tokens.add(foldCase(name.substring(start, i)));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
+    }
+}
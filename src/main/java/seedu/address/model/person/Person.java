@@ -16,6 +16,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Surrogate key, not part of identity or equality
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -29,10 +32,21 @@ public class Person {
 
     /**
      * Every field must be present and not null.
+     * The person is given a newly generated {@code PersonId}.
      */
     public Person(Name name, Phone phone, Email email, Address address, Birthday birthday,
                   PremiumList premiumlist, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, birthday, premiumlist, tags);
+        this(PersonId.generate(), name, phone, email, address, birthday, premiumlist, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used to keep the {@code id} of a person that is being edited or loaded from storage.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, Birthday birthday,
+                  PremiumList premiumlist, Set<Tag> tags) {
+        requireAllNonNull(id, name, phone, email, address, birthday, premiumlist, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -42,6 +56,10 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    public PersonId getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -110,6 +128,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The {@code PersonId} is a storage handle and is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.UUID;
+
+/**
+ * Represents the stable surrogate identifier of a Person in the address book.
+ * Unlike the displayed index, the ID of a person does not change when the person is edited or the list is filtered.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person IDs should be UUIDs, e.g. "
+            + "123e4567-e89b-12d3-a456-426614174000";
+
+    public final UUID value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid person ID.
+     */
+    public PersonId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = UUID.fromString(id);
+    }
+
+    private PersonId(UUID value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new, randomly generated {@code PersonId}.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID());
+    }
+
+    /**
+     * Returns true if a given string is a valid person ID.
+     */
+    public static boolean isValidId(String test) {
+        try {
+            return UUID.fromString(test).toString().equalsIgnoreCase(test);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherId = (PersonId) other;
+        return value.equals(otherId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.foldCase;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A hashable, normalized view of the identity fields of a {@code Person}.
+ * Two persons have equal keys if and only if {@code Person#isSamePerson(Person)} holds between them.
+ *
+ * @see Person#isSamePerson(Person)
+ */
+public final class PersonIdentityKey {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final LocalDate birthday;
+    private final int hash;
+
+    private PersonIdentityKey(String name, String phone, String email, String address, LocalDate birthday) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.birthday = birthday;
+        this.hash = Objects.hash(name, phone, email, address, birthday);
+    }
+
+    /**
+     * Returns the identity key of {@code person}.
+     */
+    public static PersonIdentityKey of(Person person) {
+        requireNonNull(person);
+        return new PersonIdentityKey(foldCase(person.getName().fullName), person.getPhone().value,
+                foldCase(person.getEmail().value), foldCase(person.getAddress().value),
+                person.getBirthday().getValue());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentityKey)) {
+            return false;
+        }
+
+        PersonIdentityKey otherKey = (PersonIdentityKey) other;
+        return hash == otherKey.hash
+                && name.equals(otherKey.name)
+                && phone.equals(otherKey.phone)
+                && email.equals(otherKey.email)
+                && address.equals(otherKey.address)
+                && birthday.equals(otherKey.birthday);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +25,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from a hash index of {@code PersonIdentityKey}s, and persons are located through a
+ * map from {@code PersonId} to list position. Both are kept in sync with the backing list, so lookups do not scan it.
+ * The {@code PersonId}s of persons in the list are also unique.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +38,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<PersonIdentityKey> identityIndex = new HashSet<>();
+    private final Map<PersonId, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(PersonIdentityKey.of(toCheck));
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it is in the list.
+     */
+    public Optional<Person> get(PersonId id) {
+        requireNonNull(id);
+        Integer position = positions.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -42,46 +64,242 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        PersonIdentityKey key = PersonIdentityKey.of(toAdd);
+        if (identityIndex.contains(key) || positions.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.add(key);
+        positions.put(toAdd.getId(), internalList.size() - 1);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may already exist in the list, and they must be unique among themselves.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Set<PersonIdentityKey> addedKeys = new HashSet<>();
+        Set<PersonId> addedIds = new HashSet<>();
+        for (Person person : toAdd) {
+            PersonIdentityKey key = PersonIdentityKey.of(person);
+            if (identityIndex.contains(key) || positions.containsKey(person.getId())
+                    || !addedKeys.add(key) || !addedIds.add(person.getId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int start = internalList.size();
+        internalList.addAll(toAdd);
+        identityIndex.addAll(addedKeys);
+        updatePositionsFrom(start);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the replaced person, as it was stored in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person storedTarget = internalList.get(index);
+        PersonIdentityKey targetKey = PersonIdentityKey.of(storedTarget);
+        PersonIdentityKey editedKey = PersonIdentityKey.of(editedPerson);
+        if (!targetKey.equals(editedKey) && identityIndex.contains(editedKey)) {
+            throw new DuplicatePersonException();
+        }
+        if (!storedTarget.getId().equals(editedPerson.getId()) && positions.containsKey(editedPerson.getId())) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(targetKey);
+        identityIndex.add(editedKey);
+        positions.remove(storedTarget.getId());
+        positions.put(editedPerson.getId(), index);
+        return storedTarget;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the removed person, as it was stored in the list.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        identityIndex.remove(PersonIdentityKey.of(removed));
+        positions.remove(removed.getId());
+        updatePositionsFrom(index);
+        return removed;
+    }
+
+    /**
+     * Inserts {@code toInsert} into the list as a single change to the list, each person at the position with the
+     * same index in {@code insertPositions}. The positions are those in the resulting list, in ascending order.
+     * None of the persons may already exist in the list, and they must be unique among themselves.
+     */
+    public void insertAll(int[] insertPositions, List<Person> toInsert) {
+        requireAllNonNull(insertPositions, toInsert);
+        assert insertPositions.length == toInsert.size();
+        if (toInsert.isEmpty()) {
+            return;
+        }
+        if (insertPositions[0] == internalList.size()) {
+            addAll(toInsert);
+            return;
+        }
+
+        Set<PersonIdentityKey> insertedKeys = new HashSet<>();
+        Set<PersonId> insertedIds = new HashSet<>();
+        for (Person person : toInsert) {
+            PersonIdentityKey key = PersonIdentityKey.of(person);
+            if (identityIndex.contains(key) || positions.containsKey(person.getId())
+                    || !insertedKeys.add(key) || !insertedIds.add(person.getId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        List<Person> merged = new ArrayList<>(internalList.size() + toInsert.size());
+        int next = 0;
+        for (Person person : internalList) {
+            while (next < toInsert.size() && insertPositions[next] == merged.size()) {
+                merged.add(toInsert.get(next++));
+            }
+            merged.add(person);
+        }
+        merged.addAll(toInsert.subList(next, toInsert.size()));
+
+        internalList.setAll(merged);
+        identityIndex.addAll(insertedKeys);
+        updatePositionsFrom(insertPositions[0]);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list as a single change to the list.
+     * The persons must all exist in the list.
+     *
+     * @return the removed persons, as they were stored in the list, in the order they were in the list.
+     */
+    public List<Person> removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+
+        boolean[] isRemoved = new boolean[internalList.size()];
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            isRemoved[index] = true;
+        }
+
+        List<Person> removed = new ArrayList<>();
+        List<Person> remaining = new ArrayList<>(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (isRemoved[i]) {
+                removed.add(internalList.get(i));
+            } else {
+                remaining.add(internalList.get(i));
+            }
+        }
+        internalList.setAll(remaining);
+        for (Person person : removed) {
+            identityIndex.remove(PersonIdentityKey.of(person));
+            positions.remove(person.getId());
+        }
+        updatePositionsFrom(0);
+        return removed;
+    }
+
+    /**
+     * Removes the persons at {@code removePositions}, replaces the persons at the positions that are keys of
+     * {@code replacements} with their values, and inserts {@code toInsert} at {@code insertPositions}, as a single
+     * change to the list. The positions of the removed and replaced persons are those in the list before the change,
+     * and those of the inserted persons are those in the resulting list, in ascending order. No person may be both
+     * removed and replaced.
+     * The persons in the resulting list must be unique.
+     */
+    public void applyAll(int[] removePositions, Map<Integer, Person> replacements, int[] insertPositions,
+            List<Person> toInsert) {
+        requireAllNonNull(removePositions, replacements, insertPositions, toInsert);
+        assert insertPositions.length == toInsert.size();
+
+        boolean[] isRemoved = new boolean[internalList.size()];
+        List<Person> released = new ArrayList<>();
+        for (int position : removePositions) {
+            isRemoved[position] = true;
+            released.add(internalList.get(position));
+        }
+        for (int position : replacements.keySet()) {
+            assert !isRemoved[position];
+            released.add(internalList.get(position));
+        }
+        Set<PersonIdentityKey> releasedKeys = new HashSet<>();
+        Set<PersonId> releasedIds = new HashSet<>();
+        for (Person person : released) {
+            releasedKeys.add(PersonIdentityKey.of(person));
+            releasedIds.add(person.getId());
+        }
+
+        Set<PersonIdentityKey> addedKeys = new HashSet<>();
+        Set<PersonId> addedIds = new HashSet<>();
+        List<Person> added = new ArrayList<>(replacements.values());
+        added.addAll(toInsert);
+        for (Person person : added) {
+            PersonIdentityKey key = PersonIdentityKey.of(person);
+            if ((identityIndex.contains(key) && !releasedKeys.contains(key))
+                    || (positions.containsKey(person.getId()) && !releasedIds.contains(person.getId()))
+                    || !addedKeys.add(key) || !addedIds.add(person.getId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int firstChanged = insertPositions.length == 0 ? internalList.size() : insertPositions[0];
+        List<Person> merged = new ArrayList<>(internalList.size() - removePositions.length + toInsert.size());
+        int next = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Person replacement = replacements.get(i);
+            if (isRemoved[i] || replacement != null) {
+                firstChanged = Math.min(firstChanged, i);
+            }
+            if (!isRemoved[i]) {
+                while (next < toInsert.size() && insertPositions[next] == merged.size()) {
+                    merged.add(toInsert.get(next++));
+                }
+                merged.add(replacement == null ? internalList.get(i) : replacement);
+            }
+        }
+        merged.addAll(toInsert.subList(next, toInsert.size()));
+
+        internalList.setAll(merged);
+        identityIndex.removeAll(releasedKeys);
+        identityIndex.addAll(addedKeys);
+        positions.keySet().removeAll(releasedIds);
+        updatePositionsFrom(firstChanged);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.addAll(replacement.identityIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
@@ -95,6 +313,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        for (Person person : persons) {
+            identityIndex.add(PersonIdentityKey.of(person));
+        }
+        positions.clear();
+        updatePositionsFrom(0);
     }
 
     /**
@@ -135,14 +359,40 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     * The position is looked up by {@code PersonId}, falling back to a scan only if {@code person} is an equal copy
+     * that does not carry the ID of the stored person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer position = positions.get(person.getId());
+        if (position != null) {
+            Person stored = internalList.get(position);
+            if (stored == person || stored.equals(person)) {
+                return position;
+            }
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Records the positions of the persons from {@code start} to the end of the list.
+     */
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} contains only unique persons with unique IDs.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<PersonIdentityKey> seenKeys = new HashSet<>();
+        Set<PersonId> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenKeys.add(PersonIdentityKey.of(person)) || !seenIds.add(person.getId())) {
+                return false;
             }
         }
         return true;
@@ -3,8 +3,13 @@ package seedu.address.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -60,6 +65,104 @@ public class UniquePolicyList implements Iterable<Policy> {
         }
     }
 
+    /**
+     * Inserts {@code toInsert} into the list as a single change to the list, each policy at the position with the
+     * same index in {@code insertPositions}. The positions are those in the resulting list, in ascending order.
+     * None of the policies may already exist in the list, and they must be unique among themselves.
+     */
+    public void insertAll(int[] insertPositions, List<Policy> toInsert) {
+        requireAllNonNull(insertPositions, toInsert);
+        assert insertPositions.length == toInsert.size();
+
+        for (int i = 0; i < toInsert.size(); i++) {
+            Policy policy = toInsert.get(i);
+            if (contains(policy) || toInsert.subList(0, i).stream().anyMatch(policy::isSamePolicy)) {
+                throw new DuplicatePolicyException();
+            }
+        }
+        if (toInsert.isEmpty() || insertPositions[0] == internalList.size()) {
+            internalList.addAll(toInsert);
+            return;
+        }
+
+        List<Policy> merged = new ArrayList<>(internalList.size() + toInsert.size());
+        int next = 0;
+        for (Policy policy : internalList) {
+            while (next < toInsert.size() && insertPositions[next] == merged.size()) {
+                merged.add(toInsert.get(next++));
+            }
+            merged.add(policy);
+        }
+        merged.addAll(toInsert.subList(next, toInsert.size()));
+        internalList.setAll(merged);
+    }
+
+    /**
+     * Returns the position of the equivalent policy of {@code policy} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Policy policy) {
+        requireNonNull(policy);
+        return internalList.indexOf(policy);
+    }
+
+    /**
+     * Removes the equivalent policies of {@code toRemove} from the list as a single change to the list.
+     * The policies must all exist in the list.
+     */
+    public void removeAll(Collection<Policy> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Set<Policy> targets = new HashSet<>(toRemove);
+        List<Policy> remaining = new ArrayList<>(internalList.size());
+        for (Policy policy : internalList) {
+            if (!targets.contains(policy)) {
+                remaining.add(policy);
+            }
+        }
+        if (internalList.size() - remaining.size() != targets.size()) {
+            throw new PolicyNotFoundException();
+        }
+        internalList.setAll(remaining);
+    }
+
+    /**
+     * Removes the policies at {@code removePositions}, replaces the policies at the positions that are keys of
+     * {@code replacements} with their values, and inserts {@code toInsert} at {@code insertPositions}, as a single
+     * change to the list. The positions of the removed and replaced policies are those in the list before the
+     * change, and those of the inserted policies are those in the resulting list, in ascending order. No policy may
+     * be both removed and replaced.
+     * The policies in the resulting list must be unique.
+     */
+    public void applyAll(int[] removePositions, Map<Integer, Policy> replacements, int[] insertPositions,
+            List<Policy> toInsert) {
+        requireAllNonNull(removePositions, replacements, insertPositions, toInsert);
+        assert insertPositions.length == toInsert.size();
+
+        boolean[] isRemoved = new boolean[internalList.size()];
+        for (int position : removePositions) {
+            isRemoved[position] = true;
+        }
+        List<Policy> merged = new ArrayList<>(internalList.size() - removePositions.length + toInsert.size());
+        int next = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!isRemoved[i]) {
+                while (next < toInsert.size() && insertPositions[next] == merged.size()) {
+                    merged.add(toInsert.get(next++));
+                }
+                merged.add(replacements.getOrDefault(i, internalList.get(i)));
+            }
+        }
+        merged.addAll(toInsert.subList(next, toInsert.size()));
+
+        Set<PolicyNumber> policyNumbers = new HashSet<>();
+        for (Policy policy : merged) {
+            if (!policyNumbers.add(policy.getPolicyNumber())) {
+                throw new DuplicatePolicyException();
+            }
+        }
+        internalList.setAll(merged);
+    }
+
     /**
      * Replaces the policy {@code target} in the list with {@code editedPolicy}.
      * {@code target} must exist in the list.
@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of later changes.
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. The journal is kept next to it,
+ * with one JSON record per line, and is replayed on top of the snapshot when the address book is read.
+ * Saving appends one record per person added, edited or removed since the last save, as found in the change log of
+ * the address book, so its cost grows with the size of the change rather than with the size of the address book.
+ * Once the journal would hold more than a threshold of records, or the changes since the last save are no longer
+ * known, the save writes a new snapshot instead and starts an empty journal.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The version of the address book that the snapshot and journal at filePath hold, if records can be appended
+    private long persistedVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with its snapshot at {@code filePath}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with its snapshot at {@code filePath}, which is compacted once
+     * its journal would hold more than {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file path of the journal kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public void createDefaultAddressBook(Path filePath) throws IOException {
+        snapshotStorage.createDefaultAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        long startTime = System.nanoTime();
+
+        if (!Files.exists(filePath)) {
+            try {
+                createDefaultAddressBook(filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to create default address book file: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        AddressBook addressBook;
+        boolean canAppendToJournal;
+        int replayedRecordCount;
+        try {
+            String snapshot = FileUtil.readFromFile(filePath);
+            JsonSerializableAddressBook jsonAddressBook =
+                    JsonUtil.fromJsonString(snapshot, JsonSerializableAddressBook.class);
+            addressBook = jsonAddressBook.toModelType();
+
+            // Records can only be appended to an intact journal of a snapshot whose person IDs are all stored
+            List<String> lines = readJournal(getJournalFilePath(filePath), checksumOf(snapshot));
+            canAppendToJournal = jsonAddressBook.hasAllPersonIds() && lines != null
+                    && (lines.isEmpty() || lines.get(lines.size() - 1) != null);
+            replayedRecordCount = lines == null ? 0 : replay(lines, addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            persistedVersion = canAppendToJournal ? addressBook.getVersion() : ReadOnlyAddressBook.UNTRACKED_VERSION;
+            journalRecordCount = replayedRecordCount;
+        }
+        logger.info(String.format("Read address book from %s and replayed %d journal records in %d ms",
+                filePath, replayedRecordCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        long startTime = System.nanoTime();
+
+        Optional<List<PersonChange>> changes = filePath.equals(this.filePath)
+                ? addressBook.getPersonChangeLog().getChangesSince(persistedVersion)
+                : Optional.empty();
+        if (changes.isEmpty() || journalRecordCount + changes.get().size() > compactionThreshold) {
+            writeSnapshot(addressBook, filePath);
+            logger.fine(String.format("Wrote address book snapshot to %s in %d ms",
+                    filePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return;
+        }
+
+        appendToJournal(changes.get(), addressBook);
+        logger.fine(String.format("Appended %d journal records for %s in %d ms",
+                changes.get().size(), filePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath} and starts an empty journal for it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (filePath.equals(this.filePath)) {
+            persistedVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
+        }
+
+        String snapshot = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, snapshot);
+        FileUtil.writeToFile(getJournalFilePath(filePath),
+                JsonUtil.toJsonLine(JsonAdaptedJournalRecord.base(checksumOf(snapshot))) + "\n");
+
+        if (filePath.equals(this.filePath)) {
+            persistedVersion = addressBook.getVersion();
+            journalRecordCount = 0;
+        }
+    }
+
+    /**
+     * Appends a record of each of {@code changes} to the journal at {@link #filePath}, after which it holds
+     * {@code addressBook}.
+     */
+    private void appendToJournal(List<PersonChange> changes, ReadOnlyAddressBook addressBook) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (PersonChange change : changes) {
+            lines.append(JsonUtil.toJsonLine(toRecord(change))).append('\n');
+        }
+
+        // If the append fails part way, the journal content is not known until the next snapshot
+        persistedVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        persistedVersion = addressBook.getVersion();
+        journalRecordCount += changes.size();
+    }
+
+    private static JsonAdaptedJournalRecord toRecord(PersonChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            return JsonAdaptedJournalRecord.add(change.getPerson());
+        case REPLACED:
+            return JsonAdaptedJournalRecord.set(change.getPerson());
+        case REMOVED:
+            return JsonAdaptedJournalRecord.remove(change.getPerson().getId());
+        default:
+            throw new AssertionError("Unknown person change: " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the lines of the journal at {@code journalFilePath} after its base record, or null if there is no
+     * journal or it applies to a snapshot other than the one with the given {@code checksum}.
+     * A last line that was not completely written is returned as null.
+     */
+    private static List<String> readJournal(Path journalFilePath, long checksum) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return null;
+        }
+
+        String journal = FileUtil.readFromFile(journalFilePath);
+        List<String> lines = new ArrayList<>(List.of(journal.split("\n", -1)));
+        String lastLine = lines.remove(lines.size() - 1);
+        if (lines.isEmpty() || !JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class)
+                .isBaseOf(checksum)) {
+            logger.info("Ignoring journal " + journalFilePath + " as it does not apply to the current snapshot");
+            return null;
+        }
+
+        lines.remove(0);
+        if (!lastLine.isEmpty()) {
+            logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+            lines.add(null);
+        }
+        return lines;
+    }
+
+    /**
+     * Applies the complete records in {@code lines} to {@code addressBook} and returns how many there were.
+     */
+    private static int replay(List<String> lines, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        int count = 0;
+        for (String line : lines) {
+            if (line == null) {
+                break;
+            }
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(addressBook);
+            count++;
+        }
+        return count;
+    }
+
+    private static long checksumOf(String content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
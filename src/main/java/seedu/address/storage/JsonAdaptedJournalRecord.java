@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Jackson-friendly version of one record of an address book journal.
+ * The first record of a journal is a {@code base} record holding the checksum of the snapshot the journal applies
+ * to. It is followed by {@code add}, {@code set} and {@code remove} records, each describing one change to a person.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal record refers to a person that does not exist: %s";
+
+    private static final String TYPE_BASE = "base";
+    private static final String TYPE_ADD = "add";
+    private static final String TYPE_SET = "set";
+    private static final String TYPE_REMOVE = "remove";
+
+    private final String type;
+    private final Long checksum;
+    private final String id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("id") String id, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.checksum = checksum;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record that starts a journal applying to the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(TYPE_BASE, checksum, null, null);
+    }
+
+    /**
+     * Returns a record of {@code person} being added.
+     */
+    public static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(TYPE_ADD, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person with the ID of {@code person} being replaced by {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(Person person) {
+        return new JsonAdaptedJournalRecord(TYPE_SET, null, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person with the given {@code id} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(PersonId id) {
+        return new JsonAdaptedJournalRecord(TYPE_REMOVE, null, id.toString(), null);
+    }
+
+    /**
+     * Returns true if this record starts a journal applying to the snapshot with the given {@code checksum}.
+     */
+    public boolean isBaseOf(long checksum) {
+        return TYPE_BASE.equals(type) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change described by this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this record is invalid or does not fit {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (TYPE_ADD.equals(type) && person != null) {
+            Person toAdd = person.toModelType();
+            if (addressBook.hasPerson(toAdd) || addressBook.getPerson(toAdd.getId()).isPresent()) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(toAdd);
+        } else if (TYPE_SET.equals(type) && person != null) {
+            Person editedPerson = person.toModelType();
+            Person target = getExistingPerson(addressBook, editedPerson.getId());
+            if (!target.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.setPerson(target, editedPerson);
+        } else if (TYPE_REMOVE.equals(type) && id != null) {
+            if (!PersonId.isValidId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            addressBook.removePerson(getExistingPerson(addressBook, new PersonId(id)));
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, type));
+        }
+    }
+
+    private static Person getExistingPerson(AddressBook addressBook, PersonId id) throws IllegalValueException {
+        return addressBook.getPerson(id)
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, id)));
+    }
+}
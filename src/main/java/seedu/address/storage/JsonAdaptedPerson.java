@@ -15,6 +15,7 @@ import seedu.address.model.person.Birthday;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Premium;
 import seedu.address.model.person.PremiumList;
@@ -27,6 +28,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -37,12 +39,14 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A missing {@code id} is allowed for data files written before person IDs were stored.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("birthday") String birthday, @JsonProperty("premiums") String premium,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") String id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("birthday") String birthday,
+            @JsonProperty("premiums") String premium, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -56,10 +60,19 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no stored ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String birthday,
+            String premium, List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, birthday, premium, tags);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -71,6 +84,13 @@ class JsonAdaptedPerson {
         premiumList.addAll(source.getPremiumList());
     }
 
+    /**
+     * Returns true if this person has a stored ID, so that converting it keeps the same ID every time.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -82,6 +102,15 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        final PersonId modelId;
+        if (id == null) {
+            modelId = PersonId.generate();
+        } else if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        } else {
+            modelId = new PersonId(id);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -133,7 +162,8 @@ class JsonAdaptedPerson {
 
         final PremiumList modelPremiumList = new PremiumList(premiumList.toModelType());
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelBirthday, modelPremiumList, modelTags);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelBirthday, modelPremiumList,
+                modelTags);
     }
 
 }
@@ -14,6 +14,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -144,18 +145,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
             }
         }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        // Persons are converted a chunk at a time as they are parsed, so the whole file is never held in memory at once
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ParallelPersonLoader loader = new ParallelPersonLoader();
+            JsonUtil.readJsonArrayElements(filePath, "persons", JsonAdaptedPerson.class, loader::add);
+            addressBook.setPersons(loader.finish());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -174,6 +181,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // A journal left by JournalAddressBookStorage no longer applies to the rewritten file
+        Files.deleteIfExists(JournalAddressBookStorage.getJournalFilePath(filePath));
     }
 
 }
@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Writes persons or policies as JSON Lines, where each line holds one of them as a JSON object in the same form as
+ * in the data files.
+ */
+public class JsonLines {
+
+    /**
+     * Writes {@code person} to {@code writer} as a line of JSON.
+     */
+    public static void writePerson(Writer writer, Person person) throws IOException {
+        requireNonNull(person);
+        JsonUtil.writeJsonLine(writer, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Writes {@code policy} to {@code writer} as a line of JSON.
+     */
+    public static void writePolicy(Writer writer, Policy policy) throws IOException {
+        requireNonNull(policy);
+        JsonUtil.writeJsonLine(writer, new JsonAdaptedPolicy(policy));
+    }
+}
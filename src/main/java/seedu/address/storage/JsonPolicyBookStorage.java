@@ -14,6 +14,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PolicyBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 
 /**
@@ -97,18 +98,23 @@ public class JsonPolicyBookStorage implements PolicyBookStorage {
             }
         }
 
-        Optional<JsonSerializablePolicyBook> jsonPolicyBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializablePolicyBook.class);
-        if (!jsonPolicyBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        // Each policy is converted as soon as it is parsed, so the whole file is never held in memory at once
+        PolicyBook policyBook = new PolicyBook();
         try {
-            return Optional.of(jsonPolicyBook.get().toModelType());
+            JsonUtil.readJsonArrayElements(filePath, "policies", JsonAdaptedPolicy.class,
+                    jsonAdaptedPolicy -> JsonSerializablePolicyBook.addPolicy(policyBook, jsonAdaptedPolicy));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(policyBook);
     }
 
     @Override
@@ -48,12 +48,22 @@ class JsonSerializablePolicyBook {
     public PolicyBook toModelType() throws IllegalValueException {
         PolicyBook policyBook = new PolicyBook();
         for (JsonAdaptedPolicy jsonAdaptedPolicy : policies) {
-            Policy policy = jsonAdaptedPolicy.toModelType();
-            if (policyBook.hasPolicy(policy)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY);
-            }
-            policyBook.addPolicy(policy);
+            addPolicy(policyBook, jsonAdaptedPolicy);
         }
         return policyBook;
     }
+
+    /**
+     * Converts {@code jsonAdaptedPolicy} into the model's {@code Policy} object and adds it to {@code policyBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static void addPolicy(PolicyBook policyBook, JsonAdaptedPolicy jsonAdaptedPolicy)
+            throws IllegalValueException {
+        Policy policy = jsonAdaptedPolicy.toModelType();
+        if (policyBook.hasPolicy(policy)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY);
+        }
+        policyBook.addPolicy(policy);
+    }
 }
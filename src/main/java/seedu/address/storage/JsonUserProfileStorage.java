@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 import seedu.address.commons.core.user.UserProfile;
@@ -14,11 +16,16 @@ import seedu.address.commons.util.JsonUtil;
 
 /**
  * A class to access UserProfile stored in the hard disk as a JSON file.
+ * The last profile read or saved is cached, and is returned again for as long as the modification time and size of
+ * its file stay the same, so that reading an unchanged profile does not parse the file again.
  */
 public class JsonUserProfileStorage implements UserProfileStorage {
 
     private final Path filePath;
 
+    // The last profile read or saved, or null if there is none that can be trusted
+    private volatile CachedUserProfile cachedUserProfile;
+
     public JsonUserProfileStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -44,8 +51,18 @@ public class JsonUserProfileStorage implements UserProfileStorage {
             return Optional.of(new UserProfile());
         }
 
+        // The attributes are read before the file, so that a change made while it is read is seen next time
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        CachedUserProfile cached = cachedUserProfile;
+        if (cached != null && cached.isOf(filePath, attributes)) {
+            return Optional.of(cached.copyProfile());
+        }
+
         // Using JsonUtil to read from the JSON file and convert to UserProfile
-        return JsonUtil.readJsonFile(filePath, UserProfile.class);
+        Optional<UserProfile> userProfile = JsonUtil.readJsonFile(filePath, UserProfile.class);
+        cachedUserProfile = userProfile.map(profile -> new CachedUserProfile(filePath, attributes, profile))
+                .orElse(null);
+        return userProfile;
     }
 
     @Override
@@ -58,7 +75,48 @@ public class JsonUserProfileStorage implements UserProfileStorage {
         requireNonNull(userProfile);
         requireNonNull(filePath);
 
+        cachedUserProfile = null;
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(userProfile, filePath);
+        cachedUserProfile = new CachedUserProfile(filePath,
+                Files.readAttributes(filePath, BasicFileAttributes.class), userProfile);
+    }
+
+    /**
+     * A copy of a profile, together with the path, modification time and size of the file it was read from or
+     * saved to.
+     */
+    private static class CachedUserProfile {
+        private final Path filePath;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final UserProfile userProfile;
+
+        CachedUserProfile(Path filePath, BasicFileAttributes attributes, UserProfile userProfile) {
+            this.filePath = filePath;
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.userProfile = copy(userProfile);
+        }
+
+        /**
+         * Returns true if the file at {@code filePath}, which has the given {@code attributes}, still holds this
+         * profile.
+         */
+        boolean isOf(Path filePath, BasicFileAttributes attributes) {
+            return this.filePath.equals(filePath) && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && size == attributes.size();
+        }
+
+        /**
+         * Returns a copy of the profile, which callers are free to modify.
+         */
+        UserProfile copyProfile() {
+            return copy(userProfile);
+        }
+
+        private static UserProfile copy(UserProfile userProfile) {
+            return new UserProfile(userProfile.getName(), userProfile.getEmail(), userProfile.getPhone());
+        }
     }
 }
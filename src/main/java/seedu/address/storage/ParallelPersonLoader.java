@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdentityKey;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on all available cores.
+ * Persons are added in file order and converted in chunks by fork/join tasks. Duplicates are found through
+ * concurrent maps from each identity key and ID to the position of the first person in the file that has it.
+ * Whatever the scheduling of the tasks, the first invalid or duplicate person in file order is the one reported.
+ */
+class ParallelPersonLoader {
+
+    static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /** Persons converted by a single task, below which a range is not split any further. */
+    private static final int CONVERSIONS_PER_TASK = 256;
+
+    private final int chunkSize;
+    private final List<JsonAdaptedPerson> pending = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final ConcurrentMap<PersonIdentityKey, Integer> firstPositionsOfKeys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PersonId, Integer> firstPositionsOfIds = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code ParallelPersonLoader} that converts {@link #DEFAULT_CHUNK_SIZE} persons at a time.
+     */
+    ParallelPersonLoader() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonLoader} that converts {@code chunkSize} persons at a time.
+     */
+    ParallelPersonLoader(int chunkSize) {
+        assert chunkSize > 0;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Adds {@code jsonAdaptedPerson} after the persons added before it.
+     *
+     * @throws IllegalValueException if a full chunk was converted and one of its persons is invalid or a duplicate.
+     */
+    public void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        requireNonNull(jsonAdaptedPerson);
+        pending.add(jsonAdaptedPerson);
+        if (pending.size() == chunkSize) {
+            convertPending();
+        }
+    }
+
+    /**
+     * Converts the remaining persons and returns all the persons added, in the order they were added.
+     *
+     * @throws IllegalValueException if a person is invalid or a duplicate of a person added before it.
+     */
+    public List<Person> finish() throws IllegalValueException {
+        convertPending();
+        return persons;
+    }
+
+    private void convertPending() throws IllegalValueException {
+        int firstPosition = persons.size();
+        Person[] converted = new Person[pending.size()];
+        IllegalValueException[] failures = new IllegalValueException[pending.size()];
+        ForkJoinPool.commonPool().invoke(new ConvertTask(firstPosition, converted, failures, 0, pending.size()));
+
+        for (int i = 0; i < converted.length; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+
+            int position = firstPosition + i;
+            if (firstPositionsOfKeys.get(PersonIdentityKey.of(converted[i])) != position) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (firstPositionsOfIds.get(converted[i].getId()) != position) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID);
+            }
+            persons.add(converted[i]);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Converts a range of the pending persons and records the first position of their identity keys and IDs.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final int firstPosition;
+        private final Person[] converted;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConvertTask(int firstPosition, Person[] converted, IllegalValueException[] failures, int from, int to) {
+            this.firstPosition = firstPosition;
+            this.converted = converted;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CONVERSIONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertTask(firstPosition, converted, failures, from, middle),
+                        new ConvertTask(firstPosition, converted, failures, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    Person person = pending.get(i).toModelType();
+                    int position = firstPosition + i;
+                    firstPositionsOfKeys.merge(PersonIdentityKey.of(person), position, Math::min);
+                    firstPositionsOfIds.merge(person.getId(), position, Math::min);
+                    converted[i] = person;
+                } catch (IllegalValueException e) {
+                    failures[i] = e;
+                }
+            }
+        }
+    }
+}
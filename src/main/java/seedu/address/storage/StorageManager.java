@@ -24,6 +24,12 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private UserProfileStorage userProfileStorage;
 
+    // The version and file of the latest successful save of each book, used to skip saving unmodified books
+    private long savedAddressBookVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
+    private Path savedAddressBookFilePath;
+    private long savedPolicyBookVersion = ReadOnlyPolicyBook.UNTRACKED_VERSION;
+    private Path savedPolicyBookFilePath;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -63,6 +69,7 @@ public class StorageManager implements Storage {
     @Override
     public void createDefaultAddressBook(Path filePath) throws IOException {
         logger.fine("Creating a default address book from: " + filePath);
+        savedAddressBookFilePath = null;
         addressBookStorage.createDefaultAddressBook(filePath);
     }
 
@@ -84,8 +91,17 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long version = addressBook.getVersion();
+        if (version != ReadOnlyAddressBook.UNTRACKED_VERSION && version == savedAddressBookVersion
+                && filePath.equals(savedAddressBookFilePath)) {
+            logger.fine("Address book is unchanged since it was saved to: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBookVersion = version;
+        savedAddressBookFilePath = filePath;
     }
 
     // ================ PolicyBook methods ==============================
@@ -97,6 +113,7 @@ public class StorageManager implements Storage {
     @Override
     public void createDefaultPolicyBook(Path filePath) throws IOException {
         logger.fine("Creating a default policy book from: " + filePath);
+        savedPolicyBookFilePath = null;
         policyBookStorage.createDefaultPolicyBook(filePath);
     }
 
@@ -118,8 +135,17 @@ public class StorageManager implements Storage {
 
     @Override
     public void savePolicyBook(ReadOnlyPolicyBook policyBook, Path filePath) throws IOException {
+        long version = policyBook.getVersion();
+        if (version != ReadOnlyPolicyBook.UNTRACKED_VERSION && version == savedPolicyBookVersion
+                && filePath.equals(savedPolicyBookFilePath)) {
+            logger.fine("Policy book is unchanged since it was saved to: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         policyBookStorage.savePolicyBook(policyBook, filePath);
+        savedPolicyBookVersion = version;
+        savedPolicyBookFilePath = filePath;
     }
 
     @Override
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyPolicyBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+
+/**
+ * Saves the address book and policy book to {@code Storage} on a background thread.
+ * Saves requested while a save is in progress are coalesced, so that only the latest version of each book is
+ * written once the current save finishes. A book whose version was already scheduled to be saved is not copied again,
+ * unless its save failed.
+ * Failures are passed to the handler set with {@link #setFailureHandler} as soon as they happen, or kept until they
+ * are taken with {@link #takeFailure()} if there is no handler.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyPolicyBook> pendingPolicyBook = new AtomicReference<>();
+    private final AtomicLong scheduledAddressBookVersion = new AtomicLong(ReadOnlyAddressBook.UNTRACKED_VERSION);
+    private final AtomicLong scheduledPolicyBookVersion = new AtomicLong(ReadOnlyPolicyBook.UNTRACKED_VERSION);
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage}.
+     */
+    public WriteBehindSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code addressBook} and {@code policyBook} to be saved.
+     * Both books are copied before this method returns, so they may be modified afterwards.
+     */
+    public void save(ReadOnlyAddressBook addressBook, ReadOnlyPolicyBook policyBook) {
+        saveAddressBook(addressBook);
+        savePolicyBook(policyBook);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved. It is copied before this method returns, unless the same version of
+     * it has already been scheduled.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long version = addressBook.getVersion();
+        if (version != ReadOnlyAddressBook.UNTRACKED_VERSION && scheduledAddressBookVersion.get() == version) {
+            return;
+        }
+        scheduledAddressBookVersion.set(version);
+        pendingAddressBook.set(new AddressBookSnapshot(addressBook));
+        scheduleDrain();
+    }
+
+    /**
+     * Schedules {@code policyBook} to be saved. It is copied before this method returns, unless the same version of
+     * it has already been scheduled.
+     */
+    public void savePolicyBook(ReadOnlyPolicyBook policyBook) {
+        requireNonNull(policyBook);
+        long version = policyBook.getVersion();
+        if (version != ReadOnlyPolicyBook.UNTRACKED_VERSION && scheduledPolicyBookVersion.get() == version) {
+            return;
+        }
+        scheduledPolicyBookVersion.set(version);
+        pendingPolicyBook.set(new PolicyBookSnapshot(policyBook));
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Passes the failure of every later save that fails to {@code failureHandler}, on the background thread, instead
+     * of keeping it to be taken.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Returns the failure of the latest save that failed since the last call and was not passed to a handler, if any.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Writes any pending saves and stops the background thread.
+     *
+     * @throws IOException if a save failed and its failure has not been taken yet.
+     */
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for pending saves to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Optional<IOException> lastFailure = takeFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+
+    private void drain() {
+        isDrainScheduled.set(false);
+
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        ReadOnlyPolicyBook policyBook = pendingPolicyBook.getAndSet(null);
+        try {
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+            }
+        } catch (IOException e) {
+            // lets the same version be scheduled again, so that the next command retries the save
+            scheduledAddressBookVersion.compareAndSet(addressBook.getVersion(), ReadOnlyAddressBook.UNTRACKED_VERSION);
+            reportFailure(e);
+        }
+        try {
+            if (policyBook != null) {
+                storage.savePolicyBook(policyBook);
+            }
+        } catch (IOException e) {
+            scheduledPolicyBookVersion.compareAndSet(policyBook.getVersion(), ReadOnlyPolicyBook.UNTRACKED_VERSION);
+            reportFailure(e);
+        }
+    }
+
+    private void reportFailure(IOException e) {
+        logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+        Consumer<IOException> handler = failureHandler;
+        if (handler != null) {
+            handler.accept(e);
+        } else {
+            failure.set(e);
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons, version and person change log of an address book.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+        private final PersonChangeLog personChangeLog;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            version = addressBook.getVersion();
+            personChangeLog = addressBook.getPersonChangeLog();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public PersonChangeLog getPersonChangeLog() {
+            return personChangeLog;
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the policies and version of a policy book.
+     */
+    private static class PolicyBookSnapshot implements ReadOnlyPolicyBook {
+        private final ObservableList<Policy> policies;
+        private final long version;
+
+        PolicyBookSnapshot(ReadOnlyPolicyBook policyBook) {
+            policies = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(policyBook.getPolicyList()));
+            version = policyBook.getVersion();
+        }
+
+        @Override
+        public ObservableList<Policy> getPolicyList() {
+            return policies;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
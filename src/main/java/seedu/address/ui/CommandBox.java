@@ -1,6 +1,9 @@
 package seedu.address.ui;
 
 import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -21,6 +24,7 @@ public class CommandBox extends UiPart<Region> {
     private static final int HISTORY_LIMIT = 13;
 
     private final CommandExecutor commandExecutor;
+    private final Function<String, List<String>> commandWordCompleter;
 
     @FXML
     private TextField commandTextField;
@@ -32,22 +36,77 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, text -> {}, prefix -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which passes the text of the command box
+     * to {@code textChangeHandler} whenever it changes, and completes the command word being typed with the words
+     * returned by {@code commandWordCompleter} when Tab is pressed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Consumer<String> textChangeHandler,
+            Function<String, List<String>> commandWordCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandWordCompleter = commandWordCompleter;
 
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and the text change handler whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> {
+            setStyleToDefault();
+            textChangeHandler.accept(text);
+        });
 
-        // Add event handler for arrow keys
+        // Add event handler for arrow keys and Tab
         commandTextField.setOnKeyPressed(event -> {
             if (event.getCode() == KeyCode.UP) {
                 navigateHistory(-1); // Up key pressed, go to previous command
             } else if (event.getCode() == KeyCode.DOWN) {
                 navigateHistory(1); // Down key pressed, go to next command
+            } else if (event.getCode() == KeyCode.TAB) {
+                completeCommandWord();
+                event.consume(); // keeps the focus in the command box
             }
         });
     }
 
+    /**
+     * Completes the command word being typed, if the command box holds nothing else.
+     * The word is completed in full, followed by a space, if only one command word starts with it, and up to where
+     * the command words starting with it differ otherwise.
+     */
+    private void completeCommandWord() {
+        String prefix = commandTextField.getText();
+        if (prefix.isEmpty() || prefix.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+
+        List<String> completions = commandWordCompleter.apply(prefix);
+        if (completions.isEmpty()) {
+            return;
+        }
+        String completion = completions.size() == 1
+                ? completions.get(0) + " "
+                : getCommonPrefix(completions);
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
+    /**
+     * Returns the longest prefix shared by all of {@code words}, which must not be empty.
+     */
+    private static String getCommonPrefix(List<String> words) {
+        String commonPrefix = words.get(0);
+        for (String word : words) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < word.length()
+                    && commonPrefix.charAt(length) == word.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+        return commonPrefix;
+    }
+
     /**
      * Navigates through the command history.
      * @param direction -1 for up, 1 for down
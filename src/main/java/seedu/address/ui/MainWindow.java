@@ -1,7 +1,14 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,12 +17,16 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LiveSearch;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelChangeEvent;
 import seedu.address.tasklist.taskui.TaskManagerWindow;
 
 /**
@@ -28,6 +39,13 @@ public class MainWindow extends UiPart<Stage> {
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    /** Runs the background tasks of commands one at a time, away from the JavaFX application thread. */
+    private final ExecutorService backgroundTaskRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Stage primaryStage;
     private Logic logic;
 
@@ -39,6 +57,10 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private UpcomingBirthdaysPanel upcomingBirthdaysPanel;
 
+    /** The command whose UI refresh is recorded after the next layout pass, or null if there is none. */
+    private String pendingRefreshCommandText;
+    private long pendingRefreshStartTime;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -65,17 +87,17 @@ public class MainWindow extends UiPart<Stage> {
 
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized as in {@code guiSettings}.
+     * Its {@code Logic} is only needed once its inner parts are filled.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
@@ -126,9 +148,11 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up all the placeholders of this window with the data of {@code logic}.
      */
-    void fillInnerParts() {
+    void fillInnerParts(Logic logic) {
+        this.logic = logic;
+
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
@@ -137,17 +161,53 @@ public class MainWindow extends UiPart<Stage> {
 
         userProfilePanel = new UserProfilePanel(logic.getUserProfile());
         userProfilePanelPlaceholder.getChildren().add(userProfilePanel.getRoot());
+        logic.subscribe(ModelChangeEvent.ProfileChanged.class, event ->
+                userProfilePanel.setUserProfile(event.getProfile()));
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        LiveSearch liveSearch = logic.createLiveSearch(Platform::runLater);
+        CommandBox commandBox = new CommandBox(this::executeCommand, liveSearch::search,
+                logic::getCommandWordCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        updateUpcomingBirthdaysPanel();
+        upcomingBirthdaysPanel = new UpcomingBirthdaysPanel(logic.getUpcomingBirthdays());
+        birthdayPanelPlaceholder.getChildren().add(upcomingBirthdaysPanel.getRoot());
+        scheduleUpcomingBirthdaysRollover();
+
+        primaryStage.getScene().addPostLayoutPulseListener(this::recordPendingUiRefresh);
+    }
+
+    /**
+     * Records the UI refresh of the command shown since the last layout pass, if any, now that the lists and the
+     * result display have been laid out again.
+     */
+    private void recordPendingUiRefresh() {
+        if (pendingRefreshCommandText == null) {
+            return;
+        }
+        logic.recordUiRefresh(pendingRefreshCommandText, System.nanoTime() - pendingRefreshStartTime);
+        pendingRefreshCommandText = null;
+    }
+
+    /**
+     * Schedules the list of upcoming birthdays to be recomputed at the next midnight, and every midnight after.
+     * The list follows person changes by itself, so only the change of date needs to be handled here.
+     */
+    private void scheduleUpcomingBirthdaysRollover() {
+        LocalDateTime nextMidnight = LocalDate.now().plusDays(1).atStartOfDay();
+        long millisUntilMidnight = ChronoUnit.MILLIS.between(LocalDateTime.now(), nextMidnight);
+        PauseTransition untilMidnight = new PauseTransition(Duration.millis(millisUntilMidnight));
+        untilMidnight.setOnFinished(event -> {
+            logic.updateUpcomingBirthdays();
+            scheduleUpcomingBirthdaysRollover();
+        });
+        untilMidnight.play();
     }
 
     /**
@@ -185,7 +245,9 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        if (logic != null) {
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -206,18 +268,16 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-
-            // Refresh upcoming birthdays if a person was added/edited/deleted
-            if (commandText.trim().startsWith("add")
-                    || commandText.trim().startsWith("edit")
-                    || commandText.trim().startsWith("delete")) {
-                updateUpcomingBirthdaysPanel();
-            } else if (commandText.trim().startsWith("profile")) {
-                updateUserProfilePanel();
-            }
+            long refreshStartTime = System.nanoTime();
 
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            // Only the latest command is recorded if several are shown before the next layout pass
+            pendingRefreshCommandText = commandText;
+            pendingRefreshStartTime = refreshStartTime;
+            Platform.requestNextPulse();
+
+            commandResult.getBackgroundTask().ifPresent(this::runInBackground);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -235,15 +295,26 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
-    private void updateUpcomingBirthdaysPanel() {
-        birthdayPanelPlaceholder.getChildren().clear();
-        upcomingBirthdaysPanel = new UpcomingBirthdaysPanel(logic.getUpcomingBirthdays());
-        birthdayPanelPlaceholder.getChildren().add(upcomingBirthdaysPanel.getRoot());
-    }
-
-    private void updateUserProfilePanel() {
-        userProfilePanelPlaceholder.getChildren().clear();
-        userProfilePanel = new UserProfilePanel(logic.getUserProfile());
-        userProfilePanelPlaceholder.getChildren().add(userProfilePanel.getRoot());
+    /**
+     * Runs {@code backgroundTask} on the background task thread, showing its progress and its result in the
+     * result display as they are reported.
+     */
+    private void runInBackground(BackgroundTask backgroundTask) {
+        backgroundTaskRunner.execute(() -> {
+            String feedback;
+            try {
+                feedback = backgroundTask.run(progress -> Platform.runLater(() ->
+                        resultDisplay.setFeedbackToUser(progress)));
+            } catch (CommandException e) {
+                logger.info("A background task failed: " + e.getMessage());
+                feedback = e.getMessage();
+            } catch (RuntimeException e) {
+                logger.warning("A background task failed unexpectedly: " + e);
+                feedback = "The task failed unexpectedly: " + e.getMessage();
+            }
+            logger.info("Background task result: " + feedback);
+            String finalFeedback = feedback;
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(finalFeedback));
+        });
     }
 }
@@ -1,12 +1,16 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -33,8 +37,6 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -58,32 +60,23 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final ObservableList<Premium> premiums = FXCollections.observableArrayList();
+    private Person person;
+    private int displayedIndex;
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to
-     * display.
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(Person, int)} is called.
+     * The card can be shown again with other persons, so that a list cell needs only one card.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        birthday.setText(person.getBirthday().toString());
-
         premiumNameColumn.setCellValueFactory(cellData ->
                 new SimpleStringProperty(cellData.getValue().getPremiumName()));
         premiumAmountColumn.setCellValueFactory(cellData ->
                 new SimpleStringProperty("$" + cellData.getValue().getPremiumAmount()));
-        premiumList.setItems(FXCollections.observableArrayList(
-                person.getPremiumList().premiumList.stream()
-                        .filter(premium -> premium.getPremiumName() != null
-                                && !premium.getPremiumName().isEmpty())
-                        .collect(Collectors.toList())
-        ));
+        premiumList.setItems(premiums);
         premiumList.setFixedCellSize(25);
-        premiumList.prefHeightProperty().bind(Bindings.size(premiumList.getItems()).multiply(25).add(30));
+        premiumList.prefHeightProperty().bind(Bindings.size(premiums).multiply(25).add(30));
         premiumList.widthProperty()
                 .addListener((observable, oldValue, newValue) -> {
                     premiumNameColumn.setPrefWidth(newValue.doubleValue() / 2.03);
@@ -91,13 +84,67 @@ public class PersonCard extends UiPart<Region> {
                     premiumAmountColumn.setPrefWidth(newValue.doubleValue() / 2.03);
                     premiumAmountColumn.setResizable(false);
                 });
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    tagLabel.setMaxWidth(80);
-                    tags.getChildren().add(tagLabel);
-                });
+    /**
+     * Creates a {@code PersonCode} with the given {@code Person} and index to
+     * display.
+     */
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with {@code displayedIndex} on this card, reusing its nodes.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.person = person;
+        this.displayedIndex = displayedIndex;
+
+        id.setText(displayedIndex + ". ");
+        name.setText(person.getName().fullName);
+        phone.setText(person.getPhone().value);
+        address.setText(person.getAddress().value);
+        email.setText(person.getEmail().value);
+        birthday.setText(person.getBirthday().toString());
+
+        premiums.setAll(person.getPremiumList().premiumList.stream()
+                .filter(premium -> premium.getPremiumName() != null
+                        && !premium.getPremiumName().isEmpty())
+                .collect(Collectors.toList()));
+
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        setTagLabels(tagNames);
+    }
+
+    /**
+     * Makes the tag labels show {@code tagNames}, reusing the labels already in {@code tags}.
+     */
+    private void setTagLabels(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                Label tagLabel = new Label(tagNames.get(i));
+                tagLabel.setMaxWidth(80);
+                tagLabels.add(tagLabel);
+            }
+        }
     }
 }
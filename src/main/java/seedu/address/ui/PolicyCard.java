@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
@@ -26,8 +28,6 @@ public class PolicyCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Policy policy;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -41,18 +41,15 @@ public class PolicyCard extends UiPart<Region> {
     @FXML
     private Hyperlink policyLink;
 
+    private Policy policy;
+    private int displayedIndex;
+
     /**
-     * Creates a {@code PolicyCard} with the given {@code Policy} and index to
-     * display.
+     * Creates a {@code PolicyCard} that shows no policy until {@link #setPolicy(Policy, int)} is called.
+     * The card can be shown again with other policies, so that a list cell needs only one card.
      */
-    public PolicyCard(Policy policy, int displayedIndex) {
+    public PolicyCard() {
         super(FXML);
-        this.policy = policy;
-        policyId.setText(displayedIndex + ". ");
-        policyName.setText(policy.getPolicyName().policyName);
-        policyNumber.setText(policy.getPolicyNumber().value);
-        providerCompany.setText(policy.getProviderCompany().value);
-        policyLink.setText(policy.getPolicyLink().value);
         // Set an action to copy the URL to the clipboard when clicked
         policyLink.setOnAction(event -> {
             // Obtain the system clipboard
@@ -65,4 +62,35 @@ public class PolicyCard extends UiPart<Region> {
             System.out.println("URL copied to clipboard: " + policyLink.getText());
         });
     }
+
+    /**
+     * Creates a {@code PolicyCard} with the given {@code Policy} and index to
+     * display.
+     */
+    public PolicyCard(Policy policy, int displayedIndex) {
+        this();
+        setPolicy(policy, displayedIndex);
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Shows {@code policy} with {@code displayedIndex} on this card, reusing its nodes.
+     */
+    public void setPolicy(Policy policy, int displayedIndex) {
+        requireNonNull(policy);
+        if (policy == this.policy && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.policy = policy;
+        this.displayedIndex = displayedIndex;
+
+        policyId.setText(displayedIndex + ". ");
+        policyName.setText(policy.getPolicyName().policyName);
+        policyNumber.setText(policy.getPolicyNumber().value);
+        providerCompany.setText(policy.getProviderCompany().value);
+        policyLink.setText(policy.getPolicyLink().value);
+    }
 }
@@ -31,8 +31,11 @@ public class PolicyListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Policy} using a {@code PolicyCard}.
+     * Each cell has one card, which is shown again with the policy of the cell whenever the cell is reused.
      */
     class PolicyListViewCell extends ListCell<Policy> {
+        private final PolicyCard policyCard = new PolicyCard();
+
         @Override
         protected void updateItem(Policy policy, boolean empty) {
             super.updateItem(policy, empty);
@@ -41,7 +44,8 @@ public class PolicyListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PolicyCard(policy, getIndex() + 1).getRoot());
+                policyCard.setPolicy(policy, getIndex() + 1);
+                setGraphic(policyCard.getRoot());
             }
         }
     }
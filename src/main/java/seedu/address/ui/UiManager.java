@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,6 +10,7 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -22,13 +25,23 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/ClientNest_32.png";
 
-    private Logic logic;
+    private final GuiSettings guiSettings;
+    private final CompletableFuture<Logic> logic;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic.getGuiSettings(), CompletableFuture.completedFuture(logic));
+    }
+
+    /**
+     * Creates a {@code UiManager} whose window is sized as in {@code guiSettings} and shown straight away.
+     * The window is filled in once {@code logic} completes, which may be after the data of the app is loaded.
+     */
+    public UiManager(GuiSettings guiSettings, CompletableFuture<Logic> logic) {
+        this.guiSettings = guiSettings;
         this.logic = logic;
     }
 
@@ -40,10 +53,33 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, guiSettings);
             mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+        } catch (Throwable e) {
+            logger.severe(StringUtil.getDetails(e));
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
+        }
 
+        // The FX thread is left free to render the empty window while the data is still being loaded
+        long shownTime = System.nanoTime();
+        logic.whenCompleteAsync((loadedLogic, loadingError) -> fillMainWindow(loadedLogic, loadingError, shownTime),
+                Platform::runLater);
+    }
+
+    /**
+     * Fills the main window with the data of {@code loadedLogic}, or shuts down if it could not be loaded.
+     */
+    private void fillMainWindow(Logic loadedLogic, Throwable loadingError, long shownTime) {
+        if (loadingError != null) {
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", loadingError);
+            return;
+        }
+
+        try {
+            mainWindow.fillInnerParts(loadedLogic);
+            logger.info(String.format("Filled main window %d ms after it was shown",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - shownTime)));
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
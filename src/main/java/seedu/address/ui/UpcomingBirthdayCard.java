@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
 
 import javafx.fxml.FXML;
@@ -16,8 +18,6 @@ public class UpcomingBirthdayCard extends UiPart<Region> {
 
     private static final String FXML = "UpcomingBirthdayCard.fxml";
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -29,13 +29,35 @@ public class UpcomingBirthdayCard extends UiPart<Region> {
     @FXML
     private Label daysUntil;
 
+    private Person person;
+
+    /**
+     * Constructs a card that shows no person until {@link #setPerson(Person)} is called.
+     * The card can be shown again with other persons, so that a list cell needs only one card.
+     */
+    public UpcomingBirthdayCard() {
+        super(FXML);
+    }
+
     /**
      * Constructs a card displaying the given person's upcoming birthday info.
      *
      * @param person Person whose birthday info is shown.
      */
     public UpcomingBirthdayCard(Person person) {
-        super(FXML);
+        this();
+        setPerson(person);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the upcoming birthday info of {@code person} on this card, reusing its nodes.
+     */
+    public void setPerson(Person person) {
+        requireNonNull(person);
         this.person = person;
         name.setText(person.getName().fullName);
         birthday.setText(person.getBirthday().toString());
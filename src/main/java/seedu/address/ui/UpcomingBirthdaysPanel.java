@@ -29,8 +29,11 @@ public class UpcomingBirthdaysPanel extends UiPart<Region> {
 
     /**
      * A custom {@code ListCell} that displays a {@code Person} using an {@code UpcomingBirthdayCard}.
+     * Each cell has one card, which is shown again with the person of the cell whenever the cell is reused.
      */
     class BirthdayListViewCell extends ListCell<Person> {
+        private final UpcomingBirthdayCard birthdayCard = new UpcomingBirthdayCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -39,7 +42,8 @@ public class UpcomingBirthdaysPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new UpcomingBirthdayCard(person).getRoot());
+                birthdayCard.setPerson(person);
+                setGraphic(birthdayCard.getRoot());
             }
         }
     }
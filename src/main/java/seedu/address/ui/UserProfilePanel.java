@@ -26,30 +26,34 @@ public class UserProfilePanel extends UiPart<Region> {
     @FXML
     private Label emailLabel;
 
-    private final UserProfile userProfile;
-
     /**
-     * Creates a {@code UserProfilePanel} with the given model.
+     * Creates a {@code UserProfilePanel} showing {@code userProfile}.
      */
     public UserProfilePanel(UserProfile userProfile) {
         super(FXML);
-        this.userProfile = userProfile;
-        initializeUserProfile();
+        initializeLabels();
+        setUserProfile(userProfile);
     }
 
     /**
-     * Initializes and sets user profile data in the UI.
+     * Shows {@code userProfile} in place of the profile shown so far.
      */
-    private void initializeUserProfile() {
+    public void setUserProfile(UserProfile userProfile) {
         nameLabel.setText("Welcome, " + userProfile.getName().fullName);
+        phoneLabel.setText("Phone: " + userProfile.getPhone().value);
+        emailLabel.setText("Email: " + userProfile.getEmail().value);
+    }
+
+    /**
+     * Sets the sizes of the labels, and how they shorten text that does not fit.
+     */
+    private void initializeLabels() {
         nameLabel.setMinWidth(500);
         nameLabel.setWrapText(false);
         nameLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
-        phoneLabel.setText("Phone: " + userProfile.getPhone().value);
         phoneLabel.setMinWidth(250);
         phoneLabel.setWrapText(false);
         phoneLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
-        emailLabel.setText("Email: " + userProfile.getEmail().value);
         emailLabel.setMinWidth(250);
         emailLabel.setWrapText(false);
         emailLabel.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
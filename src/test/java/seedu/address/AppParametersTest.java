@@ -39,10 +39,42 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchParameters_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        parametersStub.namedParameters.put("checkpoint", "50");
+        expected.setBatchScript("script.txt");
+        expected.setBatchCheckpointInterval(50);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchScriptPath_batchScriptKept() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        expected.setBatchScript("a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpointInterval_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("checkpoint", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScript("script.txt");
+        String[] args = {"--config=config.json", "unnamed", "--batch=script.txt"};
+        assertEquals(expected, AppParameters.parse(args));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchScript=" + appParameters.getBatchScript()
+                + ", batchCheckpointInterval=" + appParameters.getBatchCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +98,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchScript("script.txt");
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
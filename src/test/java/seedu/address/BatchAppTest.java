@@ -0,0 +1,15 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchAppTest {
+
+    @Test
+    public void run_invalidBatchScriptPath_exitsWithError() {
+        AppParameters appParameters = new AppParameters();
+        appParameters.setBatchScript("a\0");
+        assertEquals(BatchApp.EXIT_ERROR, new BatchApp(appParameters).run());
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_thenFlush_recordsPassedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(createRecord("message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertEquals("ab3.Test", target.records.get(0).getSourceClassName());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void close_writesPendingRecordsAndClosesTargets() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1024, OverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 500; i++) {
+            handler.publish(createRecord("message " + i));
+        }
+        handler.close();
+
+        assertEquals(500, target.records.size());
+        assertTrue(target.isClosed);
+
+        // records published after closing are passed on directly
+        handler.publish(createRecord("late message"));
+        assertEquals("late message", target.records.get(500).getMessage());
+    }
+
+    @Test
+    public void publish_fullBufferDropNewest_dropsNewRecords() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP_NEWEST);
+
+        handler.publish(createRecord("first"));
+        assertTrue(target.firstRecordReceived.await(10, TimeUnit.SECONDS));
+        // the writer is stuck on the first record, so the buffer fills up after two more
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord("message " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        target.release.countDown();
+        handler.close();
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 3), "message 0",
+                "message 1"), target.getMessages());
+    }
+
+    @Test
+    public void publish_fullBufferDropOldest_dropsOldRecords() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP_OLDEST);
+
+        handler.publish(createRecord("first"));
+        assertTrue(target.firstRecordReceived.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord("message " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        target.release.countDown();
+        handler.close();
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 3), "message 3",
+                "message 4"), target.getMessages());
+    }
+
+    @Test
+    public void publish_fullBufferBlock_noRecordLost() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.BLOCK);
+
+        handler.publish(createRecord("first"));
+        assertTrue(target.firstRecordReceived.await(10, TimeUnit.SECONDS));
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.release.countDown();
+        }).start();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord("message " + i));
+        }
+        handler.close();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(6, target.getMessages().size());
+    }
+
+    private static LogRecord createRecord(String message) {
+        LogRecord record = new LogRecord(Level.INFO, message);
+        record.setLoggerName("ab3.Test");
+        return record;
+    }
+
+    /**
+     * A handler that keeps the records it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A handler that waits to be released before it takes its first record.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        final CountDownLatch firstRecordReceived = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            firstRecordReceived.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(record);
+        }
+    }
+}
@@ -12,6 +12,7 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
                 + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
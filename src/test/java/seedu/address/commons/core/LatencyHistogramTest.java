@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_noLatencies_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1; latency <= 10; latency++) {
+            histogram.record(latency);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(1, histogram.getPercentile(10));
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(9, histogram.getPercentile(90));
+        assertEquals(10, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largeLatencies_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1_000_000; latency <= 100_000_000; latency += 1_000_000) {
+            histogram.record(latency);
+        }
+
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 50_000_000 && median <= 50_000_000 * 1.04, "median " + median);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 99_000_000 && p99 <= 99_000_000 * 1.04, "99th percentile " + p99);
+        assertEquals(100_000_000, histogram.getPercentile(100));
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_outOfRangeLatencies_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(LatencyHistogram.HIGHEST_TRACKABLE_LATENCY, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void reset_forgetsLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(100));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void indexOf_bucketBoundaries_consistentWithHighestLatency() {
+        long[] latencies = {0, 31, 32, 33, 63, 64, 65, 1_000_000, LatencyHistogram.HIGHEST_TRACKABLE_LATENCY};
+        for (long latency : latencies) {
+            int index = LatencyHistogram.indexOf(latency);
+            assertTrue(LatencyHistogram.highestLatencyOf(index) >= latency);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestLatencyOf(index - 1) < latency);
+            }
+        }
+    }
+}
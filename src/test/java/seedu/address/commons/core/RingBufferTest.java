@@ -0,0 +1,94 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void constructor_capacityNotPowerOfTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(6));
+    }
+
+    @Test
+    public void offerAndPoll_firstInFirstOut() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+
+        // goes around the buffer several times
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(i));
+            assertTrue(buffer.offer(i + 100));
+            assertFalse(buffer.isEmpty());
+            assertEquals(i, buffer.poll());
+            assertEquals(i + 100, buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void offer_full_returnsFalse() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+
+        assertEquals(1, buffer.poll());
+        assertTrue(buffer.offer(3));
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+    }
+
+    @Test
+    public void offer_concurrentProducers_noItemLost() throws Exception {
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        int producerCount = 4;
+        int itemsPerProducer = 10_000;
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < itemsPerProducer; i++) {
+                    while (!buffer.offer(producer * itemsPerProducer + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        boolean[] seen = new boolean[producerCount * itemsPerProducer];
+        int[] lastSeen = new int[producerCount];
+        Arrays.fill(lastSeen, -1);
+        for (int received = 0; received < seen.length;) {
+            Integer item = buffer.poll();
+            if (item == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertFalse(seen[item]);
+            seen[item] = true;
+            // the items of each producer come out in the order they were put in
+            assertTrue(item % itemsPerProducer > lastSeen[item / itemsPerProducer]);
+            lastSeen[item / itemsPerProducer] = item % itemsPerProducer;
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
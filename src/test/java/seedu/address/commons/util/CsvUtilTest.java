@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseRecord_unquotedFields_splitAtCommas() throws Exception {
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.parseRecord("a, b ,,c"));
+        assertEquals(List.of(""), CsvUtil.parseRecord(""));
+        assertEquals(List.of("a", ""), CsvUtil.parseRecord("a,"));
+    }
+
+    @Test
+    public void parseRecord_quotedFields_unquoted() throws Exception {
+        assertEquals(List.of("Block 123, Street 3", "say \"hi\"", ""),
+                CsvUtil.parseRecord("\"Block 123, Street 3\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void parseRecord_unclosedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.parseRecord("a,\"b,c"));
+    }
+
+    @Test
+    public void formatRecord_roundTrip() throws Exception {
+        List<String> fields = List.of("plain", "with, comma", "with \"quotes\"", "", "line\nbreak");
+        String line = CsvUtil.formatRecord(fields);
+
+        assertEquals("plain,\"with, comma\",\"with \"\"quotes\"\"\",,\"line\nbreak\"", line);
+        assertEquals(fields.subList(0, 4), CsvUtil.parseRecord(CsvUtil.formatRecord(fields.subList(0, 4))));
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,46 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayElements_validFile_elementsHandledInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        List<LocalDateTime> elements = new ArrayList<>();
+
+        JsonUtil.readJsonArrayElements(SERIALIZATION_FILE, "listOfLocalDateTimes", LocalDateTime.class,
+                elements::add);
+
+        assertEquals(SerializableTestClass.getListTestValues(), elements);
+    }
+
+    @Test
+    public void readJsonArrayElements_missingField_throwsJsonParseException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(JsonParseException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "missing", LocalDateTime.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayElements_notJsonObject_throwsJsonParseException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"not an object\" ]");
+
+        assertThrows(JsonParseException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayElements_elementRejected_stopsWithIllegalValueException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        List<LocalDateTime> elements = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayElements(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {
+                    elements.add(element);
+                    throw new IllegalValueException("rejected");
+                }));
+        assertEquals(1, elements.size());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -46,6 +48,21 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def 12", StringUtil.foldCase("aBC DeF 12"));
+        assertEquals(StringUtil.foldCase("ALICE"), StringUtil.foldCase("alice"));
+        assertNotEquals(StringUtil.foldCase("alice"), StringUtil.foldCase("alice "));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
@@ -0,0 +1,114 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonPolicyBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserProfileStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchExecutorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private StorageManager storage;
+    private final List<String> reports = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonPolicyBookStorage(temporaryFolder.resolve("policyBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserProfileStorage(temporaryFolder.resolve("userProfile.json")));
+        model = new ModelManager();
+    }
+
+    @Test
+    public void execute_failingCommand_reportedAndRestExecuted() throws Exception {
+        List<String> script = List.of("# comment", PersonUtil.getAddCommand(AMY), "", "unknowncommand",
+                PersonUtil.getAddCommand(BOB));
+
+        BatchExecutor.Summary summary = new BatchExecutor(model, storage, BatchExecutor.NO_CHECKPOINTS)
+                .execute(script, reports::add);
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        assertEquals(1, summary.getSaveCount());
+        assertEquals(3, reports.size());
+        assertTrue(reports.get(0).startsWith("Line 2: OK"));
+        assertTrue(reports.get(1).startsWith("Line 4: FAILED"));
+        assertTrue(reports.get(1).endsWith(MESSAGE_UNKNOWN_COMMAND));
+        assertTrue(reports.get(2).startsWith("Line 5: OK"));
+
+        ReadOnlyAddressBook saved = readSavedAddressBook();
+        assertEquals(List.of(AMY, BOB), saved.getPersonList());
+    }
+
+    @Test
+    public void execute_commandWithBackgroundTask_taskRunBeforeNextCommand() throws Exception {
+        Path exportPath = temporaryFolder.resolve("clients.csv");
+        List<String> script = List.of(PersonUtil.getAddCommand(AMY), "export " + exportPath,
+                PersonUtil.getAddCommand(BOB));
+
+        BatchExecutor.Summary summary = new BatchExecutor(model, storage, BatchExecutor.NO_CHECKPOINTS)
+                .execute(script, reports::add);
+
+        assertEquals(0, summary.getFailureCount());
+        assertEquals(2, Files.readAllLines(exportPath).size());
+    }
+
+    @Test
+    public void execute_checkpointInterval_savesAfterEveryInterval() throws Exception {
+        List<String> script = List.of(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB), "list");
+
+        BatchExecutor.Summary summary = new BatchExecutor(model, storage, 2).execute(script, reports::add);
+
+        assertEquals(2, summary.getSaveCount());
+        assertEquals(List.of(AMY, BOB), readSavedAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_onlyFailingCommands_nothingSaved() throws Exception {
+        BatchExecutor.Summary summary = new BatchExecutor(model, storage, BatchExecutor.NO_CHECKPOINTS)
+                .execute(List.of("unknowncommand"), reports::add);
+
+        assertEquals(0, summary.getSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void summary_latencyPercentiles() {
+        BatchExecutor.Summary summary = new BatchExecutor.Summary(new long[] {40, 10, 30, 20}, 0, 0, 100);
+
+        assertEquals(20L, summary.getLatencyPercentile(50));
+        assertEquals(40L, summary.getLatencyPercentile(99));
+        assertEquals(40L, summary.getLatencyPercentile(100));
+    }
+
+    private ReadOnlyAddressBook readSavedAddressBook() throws DataLoadingException, IOException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats.Stage;
+
+public class CommandStatsTest {
+
+    @Test
+    public void record_knownCommandWord_recordedUnderCommandWord() {
+        CommandStats commandStats = new CommandStats(List.of("add", "addpr", "list"));
+        commandStats.record("add n/Amy", Stage.PARSE, 1000);
+        commandStats.record("  add   n/Bob", Stage.PARSE, 3000);
+        commandStats.record("addpr 1 pr/Gold 100", Stage.PARSE, 5000);
+        commandStats.record("add n/Amy", Stage.EXECUTE, 7000);
+
+        assertEquals(2, commandStats.getCommandCount("add"));
+        assertEquals(1, commandStats.getCommandCount("addpr"));
+        assertEquals(0, commandStats.getCommandCount("list"));
+        assertEquals(3000, commandStats.getLatencyPercentile("add", Stage.PARSE, 100));
+        assertEquals(7000, commandStats.getLatencyPercentile("add", Stage.EXECUTE, 100));
+        assertEquals(0, commandStats.getLatencyPercentile("add", Stage.UI_REFRESH, 100));
+        assertEquals(7000, commandStats.getLatencyPercentileNanos("add", "EXECUTE", 50));
+    }
+
+    @Test
+    public void record_unknownCommandWord_recordedUnderUnknown() {
+        CommandStats commandStats = new CommandStats(List.of("add"));
+        commandStats.record("ad n/Amy", Stage.PARSE, 1000);
+        commandStats.record("", Stage.PARSE, 1000);
+
+        assertEquals(0, commandStats.getCommandCount("add"));
+        assertEquals(2, commandStats.getCommandCount(CommandStats.UNKNOWN_COMMAND_WORD));
+    }
+
+    @Test
+    public void getCommandCount_invalidCommandWord_throwsIllegalArgumentException() {
+        CommandStats commandStats = new CommandStats(List.of("add"));
+        assertThrows(IllegalArgumentException.class, () -> commandStats.getCommandCount("delete"));
+        assertThrows(IllegalArgumentException.class, () -> commandStats.getLatencyPercentileNanos("add", "SLEEP", 50));
+        assertThrows(IllegalArgumentException.class, () -> commandStats.getLatencyPercentile("add", Stage.PARSE, 0));
+    }
+
+    @Test
+    public void getSummary() {
+        CommandStats commandStats = new CommandStats(List.of("add", "list"));
+        assertEquals(CommandStats.MESSAGE_NO_COMMANDS, commandStats.getSummary());
+
+        commandStats.record("list", Stage.PARSE, 2_000_000);
+        commandStats.record("list", Stage.EXECUTE, 4_000_000);
+        String summary = commandStats.getSummary();
+        assertTrue(summary.startsWith(CommandStats.MESSAGE_SUMMARY_HEADER));
+        assertTrue(summary.contains("list (1)"));
+        assertTrue(summary.contains("parse: 2.000 / 2.000 / 2.000 / 2.000"));
+        assertTrue(summary.contains("execute: 4.000 / 4.000 / 4.000 / 4.000"));
+        assertFalse(summary.contains("add"));
+
+        commandStats.reset();
+        assertEquals(CommandStats.MESSAGE_NO_COMMANDS, commandStats.getSummary());
+    }
+}
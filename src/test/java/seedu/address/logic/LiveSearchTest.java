@@ -0,0 +1,151 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.HEALTH_2040;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class LiveSearchTest {
+
+    private static final long DEBOUNCE_MILLIS = 20;
+    private static final long WAIT_MILLIS = 2_000;
+    private static final long QUIET_MILLIS = 200;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    /** The results published by the search, run by each test as if it were the thread that owns the model. */
+    private final BlockingQueue<Runnable> publishedResults = new LinkedBlockingQueue<>();
+
+    private final LiveSearch liveSearch = new LiveSearch(model, publishedResults::add, DEBOUNCE_MILLIS);
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LiveSearch(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> new LiveSearch(model, null));
+    }
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> liveSearch.search(null));
+    }
+
+    @Test
+    public void search_findWithKeywords_filtersPersonsOnce() throws Exception {
+        liveSearch.search("find Meier");
+        runNextResult();
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertNull(publishedResults.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void search_findPolicyWithKeywords_filtersPolicies() throws Exception {
+        liveSearch.search("findpolicy health2040");
+        runNextResult();
+
+        assertEquals(Arrays.asList(HEALTH_2040), model.getFilteredPolicyList());
+    }
+
+    @Test
+    public void search_newerText_onlyLatestTextShown() throws Exception {
+        liveSearch.search("find Al");
+        liveSearch.search("find Alice");
+        runNextResult();
+        runQuietResults();
+
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_notFindWithKeywords_listsUnchanged() throws Exception {
+        int personCount = model.getFilteredPersonList().size();
+
+        liveSearch.search("find Alice");
+        liveSearch.search("find ");
+        liveSearch.search("list");
+        runQuietResults();
+
+        assertEquals(personCount, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void cancel_pendingSearch_listsUnchanged() throws Exception {
+        int personCount = model.getFilteredPersonList().size();
+
+        liveSearch.search("find Alice");
+        liveSearch.cancel();
+        runQuietResults();
+
+        assertEquals(personCount, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void search_textNoLongerFind_filterBeforeMatchesRestored() throws Exception {
+        model.updateFilteredPersonList(person -> person.getName().fullName.endsWith("Meier"));
+
+        liveSearch.search("find Alice");
+        runNextResult();
+        liveSearch.search("find Alice Pauline");
+        runNextResult();
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+
+        liveSearch.search("");
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_filterChangedAfterMatchesShown_filterKept() throws Exception {
+        liveSearch.search("find Alice");
+        runNextResult();
+        model.updateFilteredPersonList(BENSON::equals);
+
+        liveSearch.search("");
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_listChangedWhileSearching_searchesAgain() throws Exception {
+        liveSearch.search("find Alice Benson");
+        Runnable staleResult = publishedResults.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        model.deletePerson(ALICE);
+        staleResult.run();
+        runNextResult();
+
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    private void runNextResult() throws InterruptedException {
+        Runnable result = publishedResults.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(result);
+        result.run();
+    }
+
+    /**
+     * Runs the results published until none have been published for a while.
+     */
+    private void runQuietResults() throws InterruptedException {
+        Runnable result;
+        while ((result = publishedResults.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+            result.run();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -16,6 +17,10 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,9 +29,13 @@ import org.junit.jupiter.api.io.TempDir;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.CommandStats.Stage;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -40,6 +49,7 @@ import seedu.address.storage.JsonPolicyBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonUserProfileStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -85,12 +95,75 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_undoAfterAddCommand_removesAddedPerson() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_recordsStageLatencies() throws Exception {
+        CommandStats commandStats = ((LogicManager) logic).getCommandStats();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        logic.recordUiRefresh(ListCommand.COMMAND_WORD, 1000);
+
+        assertEquals(1, commandStats.getCommandCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, commandStats.getCommandCount(CommandStats.UNKNOWN_COMMAND_WORD));
+        assertEquals(1, commandStats.getCommandCount("delete"));
+        assertEquals(1000, commandStats.getLatencyPercentile(ListCommand.COMMAND_WORD, Stage.UI_REFRESH, 100));
+        for (Stage stage : List.of(Stage.EXECUTE, Stage.ADDRESS_BOOK_SAVE, Stage.POLICY_BOOK_SAVE)) {
+            assertTrue(commandStats.getLatencyPercentile(ListCommand.COMMAND_WORD, stage, 100) > 0);
+        }
+        assertEquals(0, commandStats.getLatencyPercentile("delete", Stage.ADDRESS_BOOK_SAVE, 100));
+
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertEquals(commandStats.getSummary().lines().findFirst(), result.getFeedbackToUser().lines().findFirst());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFails_commandSucceedsAndFailureReported() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonPolicyBookStorage(temporaryFolder.resolve("policyBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserProfileStorage(temporaryFolder.resolve("userProfile.json")));
+        WriteBehindSaver writeBehindSaver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, storage, writeBehindSaver);
+        BlockingQueue<String> failureMessages = new LinkedBlockingQueue<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY + PREMIUM_DESC_AMY;
+        logic.execute(addCommand);
+
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                failureMessages.poll(10, TimeUnit.SECONDS));
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        writeBehindSaver.close();
+    }
+
     @Test
     public void execute_storageThrowsAdException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
@@ -12,7 +12,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PROVIDER_COMPAN
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import seedu.address.commons.core.user.UserProfile;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeEvent;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyPolicyBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -153,6 +156,36 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<Model> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -163,11 +196,26 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Policy> getFilteredPolicyList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<? super Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<? super Policy> getFilteredPolicyListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPolicyList(Predicate<Policy> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +231,21 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePolicies(Collection<Policy> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePolicy(Policy target) {
             throw new AssertionError("This method should not be called.");
@@ -263,6 +326,11 @@ public class AddPolicyCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends ModelChangeEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -33,6 +33,18 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different backgroundTask value -> returns false
+        BackgroundTask backgroundTask = progressReporter -> "done";
+        assertFalse(commandResult.equals(new CommandResult("feedback", backgroundTask)));
+        assertTrue(new CommandResult("feedback", backgroundTask).equals(new CommandResult("feedback", backgroundTask)));
+    }
+
+    @Test
+    public void getBackgroundTask() {
+        BackgroundTask backgroundTask = progressReporter -> "done";
+        assertTrue(new CommandResult("feedback").getBackgroundTask().isEmpty());
+        assertEquals(backgroundTask, new CommandResult("feedback", backgroundTask).getBackgroundTask().get());
     }
 
     @Test
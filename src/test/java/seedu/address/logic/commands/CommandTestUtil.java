@@ -20,11 +20,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RecordExporter.RecordFormat;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+import seedu.address.storage.JsonLines;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.EditPolicyDescriptorBuilder;
 
@@ -110,6 +113,9 @@ public class CommandTestUtil {
     public static final String PREAMBLE_WHITESPACE = "\t  \r  \n";
     public static final String PREAMBLE_NON_EMPTY = "NonEmptyPreamble";
 
+    public static final RecordFormat<Person> PERSON_JSON_LINES_FORMAT = JsonLines::writePerson;
+    public static final RecordFormat<Policy> POLICY_JSON_LINES_FORMAT = JsonLines::writePolicy;
+
     public static final EditCommand.EditPersonDescriptor DESC_AMY;
     public static final EditCommand.EditPersonDescriptor DESC_BOB;
     public static final EditPolicyCommand.EditPolicyDescriptor DESC_POLICY_POL101;
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_POLICY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -46,6 +48,24 @@ public class DeletePolicyCommandTest {
         assertCommandSuccess(deletePolicyCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        Policy firstPolicy = model.getFilteredPolicyList().get(INDEX_FIRST_POLICY.getZeroBased());
+        Policy secondPolicy = model.getFilteredPolicyList().get(INDEX_SECOND_POLICY.getZeroBased());
+        DeletePolicyCommand deletePolicyCommand =
+                new DeletePolicyCommand(List.of(INDEX_FIRST_POLICY, INDEX_SECOND_POLICY));
+
+        String expectedMessage = String.format(DeletePolicyCommand.MESSAGE_DELETE_POLICIES_SUCCESS, 2,
+                Messages.formatPolicyNames(List.of(firstPolicy, secondPolicy)));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), model.getPolicyBook(),
+                                                new UserPrefs(), model.getUserProfile(), storage);
+        expectedModel.deletePolicy(firstPolicy);
+        expectedModel.deletePolicy(secondPolicy);
+
+        assertCommandSuccess(deletePolicyCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPolicyList().size() + 1);
@@ -80,7 +100,7 @@ public class DeletePolicyCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeletePolicyCommand deletePolicyCommand = new DeletePolicyCommand(targetIndex);
-        String expected = DeletePolicyCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeletePolicyCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(targetIndex) + "}";
         assertEquals(expected, deletePolicyCommand.toString());
     }
 }
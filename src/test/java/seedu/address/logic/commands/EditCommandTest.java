@@ -13,9 +13,12 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -56,6 +59,45 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validIndex_keepsPersonId() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(personToEdit.getId(), editedPerson.getId());
+        assertEquals(VALID_NAME_BOB, editedPerson.getName().fullName);
+    }
+
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person thirdPerson = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person editedFirstPerson = new PersonBuilder(firstPerson).withTags(VALID_TAG_HUSBAND).build();
+        Person editedThirdPerson = new PersonBuilder(thirdPerson).withTags(VALID_TAG_HUSBAND).build();
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand editCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 2,
+                Messages.formatNames(List.of(editedFirstPerson, editedThirdPerson)));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()),
+            new PolicyBook(model.getPolicyBook()), new UserPrefs(), new UserProfile(), storage);
+        expectedModel.setPerson(firstPerson, editedFirstPerson);
+        expectedModel.setPerson(thirdPerson, editedThirdPerson);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleIndexesEditedIntoSamePerson_nothingEdited() {
+        EditCommand editCommand = new EditCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), DESC_AMY);
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() {
         Index indexLastPerson = Index.fromOneBased(model.getFilteredPersonList().size());
@@ -186,8 +228,8 @@ public class EditCommandTest {
         Index index = Index.fromOneBased(1);
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         EditCommand editCommand = new EditCommand(index, editPersonDescriptor);
-        String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editPersonDescriptor="
-                + editPersonDescriptor + "}";
+        String expected = EditCommand.class.getCanonicalName() + "{indexes=" + List.of(index)
+                + ", editPersonDescriptor=" + editPersonDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
 
@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_JSON_LINES_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonLinesTestUtil;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void execute_csv_reimportsSamePersons() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.csv");
+        List<Person> persons = model.getFilteredPersonList();
+
+        CommandResult result = new ExportCommand(filePath, ExportFormat.CSV, PERSON_JSON_LINES_FORMAT)
+                .execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, persons.size(), filePath),
+                result.getFeedbackToUser());
+        assertFalse(Files.exists(filePath));
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, persons.size(), filePath),
+                runBackgroundTask(result));
+
+        Model importModel = new ModelManager(new AddressBook(), new PolicyBook(), new UserPrefs(),
+                new UserProfile(), null);
+        new ImportCommand(filePath).execute(importModel);
+        assertEquals(persons, importModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_jsonLines_onePersonPerLine() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.jsonl");
+        model.updateFilteredPersonList(person -> person.equals(ALICE) || person.getName().fullName.startsWith("B"));
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+
+        runBackgroundTask(new ExportCommand(filePath, ExportFormat.JSON_LINES, PERSON_JSON_LINES_FORMAT)
+                .execute(model));
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(persons.size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(persons.get(i), JsonLinesTestUtil.readPerson(lines.get(i)));
+        }
+    }
+
+    @Test
+    public void execute_vcard_oneCardPerPerson() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.vcf");
+        model.updateFilteredPersonList(ALICE::equals);
+
+        runBackgroundTask(new ExportCommand(filePath, ExportFormat.VCARD, PERSON_JSON_LINES_FORMAT).execute(model));
+
+        assertEquals("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "N:;Alice Pauline;;;\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "TEL:94351253\r\n"
+                + "EMAIL:alice@example.com\r\n"
+                + "ADR:;;123\\, Jurong West Ave 6\\, #08-111;;;;\r\n"
+                + "BDAY:1990-01-01\r\n"
+                + "CATEGORIES:friends\r\n"
+                + "NOTE:Premiums: ElderShield: $1000\r\n"
+                + "END:VCARD\r\n", Files.readString(filePath));
+    }
+
+    @Test
+    public void execute_laterChangesToModel_notExported() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.jsonl");
+        int size = model.getFilteredPersonList().size();
+
+        CommandResult result = new ExportCommand(filePath, ExportFormat.JSON_LINES, PERSON_JSON_LINES_FORMAT)
+                .execute(model);
+        model.deletePerson(ALICE);
+        runBackgroundTask(result);
+
+        assertEquals(size, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void execute_unwritableFile_backgroundTaskFails() throws Exception {
+        Path filePath = temporaryFolder.resolve("clients.csv");
+        Files.createDirectories(filePath);
+
+        CommandResult result = new ExportCommand(filePath, ExportFormat.CSV, PERSON_JSON_LINES_FORMAT)
+                .execute(model);
+
+        assertThrows(CommandException.class, () -> runBackgroundTask(result));
+    }
+
+    @Test
+    public void escapeVcardText() {
+        assertEquals("a\\,b\\;c\\\\d\\ne", ExportCommand.escapeVcardText("a,b;c\\d\ne"));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("a.csv"), ExportFormat.CSV, PERSON_JSON_LINES_FORMAT);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(
+                new ExportCommand(Path.of("a.csv"), ExportFormat.CSV, PERSON_JSON_LINES_FORMAT)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("b.csv"), ExportFormat.CSV, PERSON_JSON_LINES_FORMAT)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("a.csv"), ExportFormat.JSON_LINES, PERSON_JSON_LINES_FORMAT)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("a.csv"), ExportFormat.CSV, (writer, person) -> {})));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(ALICE));
+    }
+
+    private static String runBackgroundTask(CommandResult result) throws CommandException {
+        return result.getBackgroundTask().orElseThrow().run(progress -> {});
+    }
+}
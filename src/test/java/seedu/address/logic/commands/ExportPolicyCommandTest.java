@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.POLICY_JSON_LINES_FORMAT;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.policy.Policy;
+import seedu.address.storage.JsonLinesTestUtil;
+
+public class ExportPolicyCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void execute_csv_headerThenOneRowPerPolicy() throws Exception {
+        Path filePath = temporaryFolder.resolve("policies.csv");
+        List<Policy> policies = model.getFilteredPolicyList();
+
+        CommandResult result = new ExportPolicyCommand(filePath, ExportFormat.CSV, POLICY_JSON_LINES_FORMAT)
+                .execute(model);
+
+        assertEquals(String.format(ExportPolicyCommand.MESSAGE_EXPORTING, policies.size(), filePath),
+                result.getFeedbackToUser());
+        assertEquals(String.format(ExportPolicyCommand.MESSAGE_SUCCESS, policies.size(), filePath),
+                result.getBackgroundTask().orElseThrow().run(progress -> {}));
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals("policyNumber,policyName,providerCompany,policyLink", lines.get(0));
+        assertEquals(policies.size() + 1, lines.size());
+        Policy first = policies.get(0);
+        assertEquals(List.of(first.getPolicyNumber().value, first.getPolicyName().policyName,
+                first.getProviderCompany().value, first.getPolicyLink().value), CsvUtil.parseRecord(lines.get(1)));
+    }
+
+    @Test
+    public void execute_jsonLines_onePolicyPerLine() throws Exception {
+        Path filePath = temporaryFolder.resolve("policies.jsonl");
+        List<Policy> policies = model.getFilteredPolicyList();
+
+        new ExportPolicyCommand(filePath, ExportFormat.JSON_LINES, POLICY_JSON_LINES_FORMAT).execute(model)
+                .getBackgroundTask().orElseThrow().run(progress -> {});
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(policies.size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(policies.get(i), JsonLinesTestUtil.readPolicy(lines.get(i)));
+        }
+    }
+
+    @Test
+    public void isSupported() {
+        assertTrue(ExportPolicyCommand.isSupported(ExportFormat.CSV));
+        assertTrue(ExportPolicyCommand.isSupported(ExportFormat.JSON_LINES));
+        assertFalse(ExportPolicyCommand.isSupported(ExportFormat.VCARD));
+    }
+
+    @Test
+    public void equals() {
+        ExportPolicyCommand exportCommand =
+                new ExportPolicyCommand(Path.of("a.csv"), ExportFormat.CSV, POLICY_JSON_LINES_FORMAT);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(
+                new ExportPolicyCommand(Path.of("a.csv"), ExportFormat.CSV, POLICY_JSON_LINES_FORMAT)));
+        assertFalse(exportCommand.equals(
+                new ExportPolicyCommand(Path.of("b.csv"), ExportFormat.CSV, POLICY_JSON_LINES_FORMAT)));
+        assertFalse(exportCommand.equals(
+                new ExportPolicyCommand(Path.of("a.csv"), ExportFormat.CSV, (writer, policy) -> {})));
+        assertFalse(exportCommand.equals(null));
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.user.UserProfile;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,birthday,premiums,tags";
+    private static final String AMY_ROW =
+            "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",2002-02-09,LifeShield 100,friend";
+    private static final String BOB_ROW = "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\","
+            + "2002-11-12,ElderShield 200,husband friend";
+    private static final String ALICE_ROW = "Alice Pauline,94351253,alice@example.com,"
+            + "\"123, Jurong West Ave 6, #08-111\",1990-01-01,,";
+    private static final String INVALID_EMAIL_ROW = "Carol,33333333,carol,Somewhere,1990-01-01,,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalPolicyBook(), new UserPrefs(),
+            new UserProfile(), null);
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path filePath = writeCsv(HEADER, AMY_ROW, "", BOB_ROW);
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ImportCommand(filePath, 1).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(sizeBefore + 2, persons.size());
+        assertEquals(List.of(AMY, BOB), persons.subList(sizeBefore, persons.size()));
+        assertFalse(Files.exists(ImportCommand.getReportPath(filePath)));
+    }
+
+    @Test
+    public void execute_headerWithByteOrderMark_allImported() throws Exception {
+        Path filePath = writeCsv("\uFEFF" + HEADER, AMY_ROW);
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath), result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectedToReport() throws Exception {
+        Path filePath = writeCsv(HEADER, AMY_ROW, INVALID_EMAIL_ROW, ALICE_ROW, AMY_ROW, BOB_ROW);
+        Path reportPath = ImportCommand.getReportPath(filePath);
+
+        CommandResult result = new ImportCommand(filePath, 2).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_WITH_REJECTIONS, 2, filePath, 3, reportPath),
+                result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+        assertEquals(List.of("line,reason,row",
+                CsvUtil.formatRecord(List.of("3", Email.MESSAGE_CONSTRAINTS.replaceAll("\\s*\\R\\s*", " "),
+                        INVALID_EMAIL_ROW)),
+                CsvUtil.formatRecord(List.of("4", ImportCommand.MESSAGE_DUPLICATE_PERSON, ALICE_ROW)),
+                CsvUtil.formatRecord(List.of("5", ImportCommand.MESSAGE_DUPLICATE_PERSON, AMY_ROW))),
+                Files.readAllLines(reportPath));
+    }
+
+    @Test
+    public void execute_manyRows_importedInFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < 1000; i++) {
+            lines.add("Person " + i + "," + (90000000 + i) + ",p" + i + "@example.com,Somewhere,1990-01-01,,");
+        }
+        Path filePath = temporaryFolder.resolve("many.csv");
+        Files.write(filePath, lines);
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+
+        new ImportCommand(filePath, 64).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(sizeBefore + 1000, persons.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Person " + i, persons.get(sizeBefore + i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path filePath = writeCsv("name,phone,email,address", "Amy Bee,11111111,amy@example.com,Somewhere");
+
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_IMPORT_FAILED,
+                filePath, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN, "birthday")));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeCsv();
+
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_NO_HEADER, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath).execute(model));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(ALICE));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = temporaryFolder.resolve("clients.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RecordExporterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void export_csv_quotesFields() throws Exception {
+        Path filePath = temporaryFolder.resolve("out.csv");
+        RecordExporter<String> exporter = new RecordExporter<>(RecordExporter.csv(List.of("value", "length"),
+                value -> List.of(value, String.valueOf(value.length()))));
+
+        exporter.export(List.of("a", "b,c"), filePath, count -> {});
+
+        assertEquals(List.of("value,length", "a,1", "\"b,c\",3"), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void export_manyRecords_progressReportedAtIntervals() throws Exception {
+        Path filePath = temporaryFolder.resolve("nested/out.txt");
+        List<Integer> records = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+        List<Integer> reportedCounts = new ArrayList<>();
+
+        new RecordExporter<Integer>((writer, record) -> writer.write(record + System.lineSeparator()), 10)
+                .export(records, filePath, reportedCounts::add);
+
+        assertEquals(List.of(10, 20), reportedCounts);
+        assertEquals(records.stream().map(String::valueOf).collect(Collectors.toList()),
+                Files.readAllLines(filePath));
+    }
+}
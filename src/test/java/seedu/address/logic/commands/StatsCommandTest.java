@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.CommandStats.Stage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsSummary() {
+        CommandStats commandStats = new CommandStats(List.of(ListCommand.COMMAND_WORD));
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(commandStats), model, CommandStats.MESSAGE_NO_COMMANDS,
+                new ModelManager());
+
+        commandStats.record(ListCommand.COMMAND_WORD, Stage.PARSE, 1000);
+        assertCommandSuccess(new StatsCommand(commandStats), model, commandStats.getSummary(), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        CommandStats commandStats = new CommandStats(List.of());
+        StatsCommand statsCommand = new StatsCommand(commandStats);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandStats)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStats(List.of()))));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new ListCommand()));
+    }
+}
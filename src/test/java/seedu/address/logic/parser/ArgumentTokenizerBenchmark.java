@@ -0,0 +1,206 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BIRTHDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREMIUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * Compares the time taken to tokenize long {@code add} and {@code editpremium} arguments with
+ * {@link ArgumentTokenizer}, which takes the nearest of the next occurrences of the prefixes as it goes, and with the
+ * tokenizer it replaced, which collected the positions of all the prefixes into a list and then sorted it.
+ * It is not run with the tests; run it with {@code gradlew tokenizerBenchmark}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_TAG, PREFIX_BIRTHDAY, PREFIX_PREMIUM};
+    private static final Prefix[] EDIT_PREMIUM_PREFIXES = {PREFIX_PREMIUM};
+
+    private static final int TAG_COUNT = 100;
+    private static final int PREMIUM_COUNT = 50;
+    private static final int PREMIUM_NAME_WORDS = 500;
+    private static final int WARM_UP_TOKENIZATIONS = 20_000;
+    private static final int MEASURED_TOKENIZATIONS = 100_000;
+
+    /** Keeps the results of the tokenizations in use, so that they are not optimised away. */
+    private static long checksum;
+
+    /**
+     * Runs the benchmark and prints its results.
+     */
+    public static void main(String[] args) {
+        String addArguments = createAddArguments();
+        String editPremiumArguments = createEditPremiumArguments();
+
+        compare("add (" + addArguments.length() + " characters)", addArguments, ADD_PREFIXES);
+        compare("editpremium (" + editPremiumArguments.length() + " characters)", editPremiumArguments,
+                EDIT_PREMIUM_PREFIXES);
+        System.out.println("Checksum: " + checksum);
+    }
+
+    private static String createAddArguments() {
+        StringBuilder arguments = new StringBuilder(" n/John Doe p/98765432 e/johnd@example.com"
+                + " a/311, Clementi Ave 2, #02-25, Singapore 120311 b/1990-01-01");
+        for (int i = 0; i < TAG_COUNT; i++) {
+            arguments.append(" t/tag").append(i);
+        }
+        for (int i = 0; i < PREMIUM_COUNT; i++) {
+            arguments.append(" pr/LifeShield").append(i).append(" ").append(100 + i);
+        }
+        return arguments.toString();
+    }
+
+    private static String createEditPremiumArguments() {
+        StringBuilder arguments = new StringBuilder(" 1 pr/");
+        for (int i = 0; i < PREMIUM_NAME_WORDS; i++) {
+            arguments.append("Shield").append(i).append(" ");
+        }
+        return arguments.append("100").toString();
+    }
+
+    private static void compare(String name, String arguments, Prefix[] prefixes) {
+        checkSameTokens(arguments, prefixes);
+        System.out.println(name);
+        measure("ArgumentTokenizer", arguments, prefixes, ArgumentTokenizer::tokenize);
+        measure("Sorted prefix positions", arguments, prefixes, SortingArgumentTokenizer::tokenize);
+    }
+
+    private static void checkSameTokens(String arguments, Prefix[] prefixes) {
+        ArgumentMultimap expected = SortingArgumentTokenizer.tokenize(arguments, prefixes);
+        ArgumentMultimap actual = ArgumentTokenizer.tokenize(arguments, prefixes);
+        boolean isSame = expected.getPreamble().equals(actual.getPreamble())
+                && Arrays.stream(prefixes).allMatch(prefix ->
+                        expected.getAllValues(prefix).equals(actual.getAllValues(prefix)));
+        if (!isSame) {
+            throw new AssertionError("The tokenizers disagree on: " + arguments);
+        }
+    }
+
+    private static void measure(String name, String arguments, Prefix[] prefixes,
+            BiFunction<String, Prefix[], ArgumentMultimap> tokenizer) {
+        for (int i = 0; i < WARM_UP_TOKENIZATIONS; i++) {
+            checksum += tokenizer.apply(arguments, prefixes).getAllValues(PREFIX_PREMIUM).size();
+        }
+        LatencyHistogram tokenizeTimes = new LatencyHistogram();
+        for (int i = 0; i < MEASURED_TOKENIZATIONS; i++) {
+            long startTime = System.nanoTime();
+            ArgumentMultimap argMultimap = tokenizer.apply(arguments, prefixes);
+            tokenizeTimes.record(System.nanoTime() - startTime);
+            checksum += argMultimap.getAllValues(PREFIX_PREMIUM).size();
+        }
+
+        System.out.printf("  %s in us: median %.2f, 99th percentile %.2f, max %.2f%n", name,
+                toMicros(tokenizeTimes.getPercentile(50)), toMicros(tokenizeTimes.getPercentile(99)),
+                toMicros(tokenizeTimes.getMax()));
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    /**
+     * The tokenizer that {@link ArgumentTokenizer} replaced, kept as it was to be compared with.
+     */
+    private static class SortingArgumentTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
+            return extractArguments(argsString, positions);
+        }
+
+        private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
+            return Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+        }
+
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+
+            int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (prefixPosition != -1) {
+                PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
+                positions.add(extendedPrefix);
+                prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+            }
+
+            return positions;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1
+                    : prefixIndex + 1; // +1 as offset for whitespace
+        }
+
+        private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+
+            // Sort by start position
+            prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
+
+            // Insert a PrefixPosition to represent the preamble
+            PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
+            prefixPositions.add(0, preambleMarker);
+
+            // Add a dummy PrefixPosition to represent the end of the string
+            PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
+            prefixPositions.add(endPositionMarker);
+
+            // Map prefixes to their argument values (if any)
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < prefixPositions.size() - 1; i++) {
+                // Extract and store prefixes and their arguments
+                Prefix argPrefix = prefixPositions.get(i).getPrefix();
+                String argValue = extractArgumentValue(argsString, prefixPositions.get(i),
+                        prefixPositions.get(i + 1));
+                argMultimap.put(argPrefix, argValue);
+            }
+
+            return argMultimap;
+        }
+
+        private static String extractArgumentValue(String argsString, PrefixPosition currentPrefixPosition,
+                PrefixPosition nextPrefixPosition) {
+            Prefix prefix = currentPrefixPosition.getPrefix();
+
+            int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
+            String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+
+            return value.trim();
+        }
+
+        /**
+         * Represents a prefix's position in an arguments string.
+         */
+        private static class PrefixPosition {
+            private final int startPosition;
+            private final Prefix prefix;
+
+            PrefixPosition(Prefix prefix, int startPosition) {
+                this.prefix = prefix;
+                this.startPosition = startPosition;
+            }
+
+            int getStartPosition() {
+                return startPosition;
+            }
+
+            Prefix getPrefix() {
+                return prefix;
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREMIUM;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +138,15 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter_eachRecognized() {
+        String argsString = " 1 p/91234567 pr/Plan A 100 pr/Plan B 200 p/ 98765432";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_PHONE, PREFIX_PREMIUM);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, PREFIX_PHONE, "91234567", "98765432");
+        assertArgumentPresent(argMultimap, PREFIX_PREMIUM, "Plan A 100", "Plan B 200");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
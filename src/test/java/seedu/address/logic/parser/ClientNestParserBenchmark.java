@@ -0,0 +1,227 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_JSON_LINES_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.POLICY_JSON_LINES_FORMAT;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddPolicyCommand;
+import seedu.address.logic.commands.AddPremiumCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeletePolicyCommand;
+import seedu.address.logic.commands.DeletePremiumCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditPolicyCommand;
+import seedu.address.logic.commands.EditPremiumCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindPolicyCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListPolicyCommand;
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Compares the time taken to parse a mix of commands with {@link ClientNestParser}, which looks up a shared parser
+ * for each command word in a {@code CommandWordTrie}, and with the parser it replaced, which chose the parser with a
+ * switch on the command word and created a new one for every command.
+ * It is not run with the tests; run it with {@code gradlew parserBenchmark}.
+ */
+public class ClientNestParserBenchmark {
+
+    private static final List<String> COMMANDS = List.of(
+            "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 b/1990-01-01 "
+                    + "t/friends t/owesMoney",
+            "edit 1 p/91234567 e/johndoe@example.com",
+            "delete 3",
+            "find alex david bernice",
+            "list",
+            "addpr 1 pr/LifeShield $300",
+            "editpr 1 pr/LifeShield $500",
+            "deletepr 1 pr/LifeShield",
+            "addpolicy pn/POL123 n/LifeShield pc/ShieldCorp pl/https://shieldcorp.com/lifeshield",
+            "editpolicy 1 n/New Policy Name pc/ABC Insurance",
+            "deletepolicy 1,4,9-12",
+            "findpolicy shield",
+            "listpolicy",
+            "profile n/John Doe p/98765432 e/johnd@example.com",
+            "help",
+            "clear");
+
+    /** The parsers are measured in turn more than once, as the first one measured is slowed by the JIT. */
+    private static final int ROUNDS = 2;
+    private static final int WARM_UP_PASSES = 20_000;
+    private static final int MEASURED_PASSES = 100_000;
+
+    /** Keeps the parsed commands in use, so that they are not optimised away. */
+    private static long checksum;
+
+    /**
+     * A way of parsing user input into a command.
+     */
+    @FunctionalInterface
+    private interface CommandParser {
+        Command parseCommand(String userInput) throws ParseException;
+    }
+
+    /**
+     * Runs the benchmark and prints its results.
+     */
+    public static void main(String[] args) throws ParseException {
+        ClientNestParser clientNestParser = new ClientNestParser(PERSON_JSON_LINES_FORMAT, POLICY_JSON_LINES_FORMAT);
+        SwitchClientNestParser switchClientNestParser = new SwitchClientNestParser();
+        checkSameCommands(clientNestParser, switchClientNestParser);
+
+        System.out.println(COMMANDS.size() + " commands parsed in turn");
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("Round " + round);
+            measure("ClientNestParser", clientNestParser::parseCommand);
+            measure("Switch on the command word", switchClientNestParser::parseCommand);
+        }
+        System.out.println("Checksum: " + checksum);
+    }
+
+    private static void checkSameCommands(ClientNestParser clientNestParser,
+            SwitchClientNestParser switchClientNestParser) throws ParseException {
+        for (String userInput : COMMANDS) {
+            Command expected = switchClientNestParser.parseCommand(userInput);
+            Command actual = clientNestParser.parseCommand(userInput);
+            if (expected.getClass() != actual.getClass()) {
+                throw new AssertionError("The parsers disagree on: " + userInput);
+            }
+        }
+    }
+
+    private static void measure(String name, CommandParser parser) throws ParseException {
+        for (int i = 0; i < WARM_UP_PASSES; i++) {
+            for (String userInput : COMMANDS) {
+                checksum += parser.parseCommand(userInput).hashCode() & 1;
+            }
+        }
+
+        LatencyHistogram parseTimes = new LatencyHistogram();
+        long benchmarkStartTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_PASSES; i++) {
+            for (String userInput : COMMANDS) {
+                long startTime = System.nanoTime();
+                Command command = parser.parseCommand(userInput);
+                parseTimes.record(System.nanoTime() - startTime);
+                checksum += command.hashCode() & 1;
+            }
+        }
+        long benchmarkTime = System.nanoTime() - benchmarkStartTime;
+
+        System.out.printf("  %s: %.0f commands/s; per command in us: median %.2f, 99th percentile %.2f%n", name,
+                parseTimes.getCount() / (benchmarkTime / (double) TimeUnit.SECONDS.toNanos(1)),
+                toMicros(parseTimes.getPercentile(50)), toMicros(parseTimes.getPercentile(99)));
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    /**
+     * The parser that {@link ClientNestParser} replaced, kept as it was to be compared with.
+     */
+    private static class SwitchClientNestParser {
+
+        private static final Pattern BASIC_COMMAND_FORMAT =
+                Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+        private static final Logger logger = LogsCenter.getLogger(SwitchClientNestParser.class);
+
+        Command parseCommand(String userInput) throws ParseException {
+            final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+            if (!matcher.matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+
+            final String commandWord = matcher.group("commandWord");
+            final String arguments = matcher.group("arguments");
+            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+
+            switch (commandWord) {
+
+            /* General */
+            case ExitCommand.COMMAND_WORD:
+                return new ExitCommand();
+
+            case HelpCommand.COMMAND_WORD:
+                return new HelpCommand();
+
+            case ProfileCommand.COMMAND_WORD:
+                return new ProfileCommandParser().parse(arguments);
+
+            /* Person */
+            case AddCommand.COMMAND_WORD:
+                return new AddCommandParser().parse(arguments);
+
+            case EditCommand.COMMAND_WORD:
+                return new EditCommandParser().parse(arguments);
+
+            case DeleteCommand.COMMAND_WORD:
+                return new DeleteCommandParser().parse(arguments);
+
+            case ClearCommand.COMMAND_WORD:
+                return new ClearCommand();
+
+            case FindCommand.COMMAND_WORD:
+                return new FindCommandParser().parse(arguments);
+
+            case ListCommand.COMMAND_WORD:
+                if (arguments.isEmpty()) {
+                    return new ListCommand();
+                } else {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                            ListCommand.MESSAGE_USAGE));
+                }
+
+            /* Premium */
+            case AddPremiumCommand.COMMAND_WORD:
+                return new AddPremiumCommandParser().parse(arguments);
+
+            case EditPremiumCommand.COMMAND_WORD:
+                return new EditPremiumCommandParser().parse(arguments);
+
+            case DeletePremiumCommand.COMMAND_WORD:
+                return new DeletePremiumCommandParser().parse(arguments);
+
+            /* Policy */
+            case AddPolicyCommand.COMMAND_WORD:
+                return new AddPolicyCommandParser().parse(arguments);
+
+            case ListPolicyCommand.COMMAND_WORD:
+                if (arguments.isEmpty()) {
+                    return new ListPolicyCommand();
+                } else {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                            ListPolicyCommand.MESSAGE_USAGE));
+                }
+
+            case FindPolicyCommand.COMMAND_WORD:
+                return new FindPolicyCommandParser().parse(arguments);
+
+            case EditPolicyCommand.COMMAND_WORD:
+                return new EditPolicyCommandParser().parse(arguments);
+
+            case DeletePolicyCommand.COMMAND_WORD:
+                return new DeletePolicyCommandParser().parse(arguments);
+
+            default:
+                logger.finer("This user input caused a ParseException: " + userInput);
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+        }
+    }
+}
@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_JSON_LINES_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.POLICY_JSON_LINES_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PREMIUM_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,7 +26,13 @@ import seedu.address.logic.commands.EditPremiumCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportFormat;
+import seedu.address.logic.commands.ExportPolicyCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -33,7 +42,8 @@ import seedu.address.testutil.PersonUtil;
 
 public class ClientNestParserTest {
 
-    private final ClientNestParser parser = new ClientNestParser();
+    private final ClientNestParser parser =
+            new ClientNestParser(PERSON_JSON_LINES_FORMAT, POLICY_JSON_LINES_FORMAT);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -78,12 +88,32 @@ public class ClientNestParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " clients.csv");
+        assertEquals(new ImportCommand(Paths.get("clients.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("clients.vcf"), ExportFormat.VCARD, PERSON_JSON_LINES_FORMAT),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " clients.vcf"));
+        assertEquals(new ExportPolicyCommand(Paths.get("policies.csv"), ExportFormat.CSV, POLICY_JSON_LINES_FORMAT),
+                parser.parseCommand(ExportPolicyCommand.COMMAND_WORD + " policies.csv"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -105,4 +135,25 @@ public class ClientNestParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_registeredCommand_usesRegisteredParser() throws Exception {
+        ClientNestParser parserWithExtraCommand =
+                new ClientNestParser(PERSON_JSON_LINES_FORMAT, POLICY_JSON_LINES_FORMAT);
+        parserWithExtraCommand.registerCommand("bye", arguments -> new ExitCommand());
+        assertTrue(parserWithExtraCommand.parseCommand("bye") instanceof ExitCommand);
+    }
+
+    @Test
+    public void registerCommand_existingCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.registerCommand(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+    }
+
+    @Test
+    public void getCommandWordCompletions() {
+        assertEquals(List.of(ExitCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD, ExportPolicyCommand.COMMAND_WORD),
+                parser.getCommandWordCompletions("ex"));
+        assertEquals(List.of(), parser.getCommandWordCompletions("unknown"));
+    }
 }
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandWordTrieTest {
+
+    @Test
+    public void get_wordPut_returnsValue() {
+        CommandWordTrie<Integer> trie = new CommandWordTrie<>();
+        trie.put("add", 1);
+        trie.put("addpr", 2);
+
+        assertEquals(Optional.of(1), trie.get("add"));
+        assertEquals(Optional.of(2), trie.get("addpr"));
+        assertEquals(Optional.empty(), trie.get("ad"));
+        assertEquals(Optional.empty(), trie.get("addp"));
+        assertEquals(Optional.empty(), trie.get("delete"));
+        assertTrue(trie.contains("add"));
+        assertFalse(trie.contains("ad"));
+    }
+
+    @Test
+    public void getOrDefault_wordInText_returnsValue() {
+        CommandWordTrie<String> trie = new CommandWordTrie<>();
+        trie.put("add", "person");
+        trie.put("addpr", "premium");
+
+        assertEquals("person", trie.getOrDefault("  add n/Amy", 2, 5, "none"));
+        assertEquals("premium", trie.getOrDefault("addpr 1", 0, 5, "none"));
+        assertEquals("none", trie.getOrDefault("addp 1", 0, 4, "none"));
+        assertEquals("none", trie.getOrDefault("delete 1", 0, 6, "none"));
+    }
+
+    @Test
+    public void put_existingWord_replacesValue() {
+        CommandWordTrie<Integer> trie = new CommandWordTrie<>();
+        trie.put("add", 1);
+        trie.put("add", 2);
+
+        assertEquals(Optional.of(2), trie.get("add"));
+    }
+
+    @Test
+    public void getCommandWordsStartingWith_returnsWordsInAlphabeticalOrder() {
+        CommandWordTrie<Integer> trie = new CommandWordTrie<>();
+        trie.put("delete", 1);
+        trie.put("addpr", 2);
+        trie.put("add", 3);
+        trie.put("addpolicy", 4);
+
+        assertEquals(List.of("add", "addpolicy", "addpr"), trie.getCommandWordsStartingWith("a"));
+        assertEquals(List.of("addpolicy", "addpr"), trie.getCommandWordsStartingWith("addp"));
+        assertEquals(List.of("add", "addpolicy", "addpr", "delete"), trie.getCommandWordsStartingWith(""));
+        assertEquals(List.of(), trie.getCommandWordsStartingWith("x"));
+    }
+}
@@ -34,6 +34,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -131,6 +133,16 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_multipleIndexes_success() {
+        String userInput = "1,3-3, 2" + TAG_DESC_HUSBAND;
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        EditCommand expectedCommand = new EditCommand(
+                List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
     @Test
     public void parse_oneFieldSpecified_success() {
         // name
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.PERSON_JSON_LINES_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportFormat;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser(PERSON_JSON_LINES_FORMAT);
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, "  data/clients.csv ",
+                new ExportCommand(Paths.get("data/clients.csv"), ExportFormat.CSV, PERSON_JSON_LINES_FORMAT));
+        assertParseSuccess(parser, "clients.JSONL",
+                new ExportCommand(Paths.get("clients.JSONL"), ExportFormat.JSON_LINES, PERSON_JSON_LINES_FORMAT));
+        assertParseSuccess(parser, "clients.vcf",
+                new ExportCommand(Paths.get("clients.vcf"), ExportFormat.VCARD, PERSON_JSON_LINES_FORMAT));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, "clients.txt", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "clients\0.csv", MESSAGE_INVALID_FORMAT);
+    }
+}
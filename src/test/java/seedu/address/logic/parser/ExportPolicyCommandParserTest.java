@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.POLICY_JSON_LINES_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportFormat;
+import seedu.address.logic.commands.ExportPolicyCommand;
+
+public class ExportPolicyCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportPolicyCommand.MESSAGE_USAGE);
+
+    private ExportPolicyCommandParser parser = new ExportPolicyCommandParser(POLICY_JSON_LINES_FORMAT);
+
+    @Test
+    public void parse_validArgs_returnsExportPolicyCommand() {
+        assertParseSuccess(parser, " policies.csv ",
+                new ExportPolicyCommand(Paths.get("policies.csv"), ExportFormat.CSV, POLICY_JSON_LINES_FORMAT));
+        assertParseSuccess(parser, "policies.jsonl",
+                new ExportPolicyCommand(Paths.get("policies.jsonl"), ExportFormat.JSON_LINES,
+                        POLICY_JSON_LINES_FORMAT));
+    }
+
+    @Test
+    public void parse_vcard_throwsParseException() {
+        assertParseFailure(parser, "policies.vcf", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+}
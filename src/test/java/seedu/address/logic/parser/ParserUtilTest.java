@@ -3,16 +3,20 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDEXES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -78,6 +82,34 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("5-3"));
+    }
+
+    @Test
+    public void parseIndexes_tooManyIndexes_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_TOO_MANY_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE));
+        assertThrows(ParseException.class, MESSAGE_TOO_MANY_INDEXES, ()
+            -> ParserUtil.parseIndexes("1-" + ParserUtil.MAX_INDEX_COUNT + ",200000"));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(List.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexes(" 1 "));
+
+        // indexes and ranges, sorted without duplicates
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(4),
+                Index.fromOneBased(5), Index.fromOneBased(9)), ParserUtil.parseIndexes("9, 3 - 5,1,4"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -317,6 +349,9 @@ public class ParserUtilTest {
 
         assertThrows(ParseException.class, () -> ParserUtil.parsePremium(insufficientPartsInput));
 
+        // Test with a second premium identifier but no value
+        assertThrows(ParseException.class, () -> ParserUtil.parsePremium("P001 100 P002"));
+
         // Test with empty string
         String emptyInput = "";
 
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.PremiumList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final List<String> HEADER =
+            List.of("name", "phone", "email", "address", "birthday", "premiums", "tags");
+
+    @Test
+    public void constructor_missingColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN, "birthday"), () ->
+                new PersonCsvParser(List.of("name", "phone", "email", "address")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN, "name"), () ->
+                new PersonCsvParser(List.of("name", "phone", "email", "address", "birthday", "Name")));
+    }
+
+    @Test
+    public void parse_allColumns_success() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertEquals(BOB, parser.parse(List.of("Bob Choo", "22222222", "bob@example.com", "Block 123, Bobby Street 3",
+                "2002-11-12", "ElderShield 200", "husband friend")));
+    }
+
+    @Test
+    public void parse_columnsInAnyOrderWithoutOptionalColumns_success() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(List.of(" Birthday", "EMAIL", "address", "phone", "name"));
+
+        assertEquals(new PersonBuilder(AMY).withPremiumList(new PremiumList()).withTags().build(),
+                parser.parse(List.of("2002-02-09", "amy@example.com", "Block 312, Amy Street 1", "11111111",
+                        "Amy Bee")));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertThrows(ParseException.class, Email.MESSAGE_CONSTRAINTS, () -> parser.parse(List.of("Bob Choo",
+                "22222222", "bob", "Block 123, Bobby Street 3", "2002-11-12", "", "")));
+    }
+
+    @Test
+    public void parse_wrongFieldCount_throwsParseException() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 2, 7), () ->
+                parser.parse(List.of("Bob Choo", "22222222")));
+    }
+}
@@ -2,22 +2,31 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -30,6 +39,143 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void getVersion_modified_changes() {
+        long initialVersion = addressBook.getVersion();
+        assertNotEquals(initialVersion, new AddressBook().getVersion());
+
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        assertNotEquals(initialVersion, addedVersion);
+
+        // read-only operations do not change the version
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(addedVersion, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(addedVersion, addressBook.getVersion());
+    }
+
+    @Test
+    public void getPersonChangeLog_changesSinceVersion_inOrder() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPersons(List.of(ALICE, BENSON));
+        long addedVersion = addressBook.getVersion();
+        Person editedAlice = withPhone(ALICE, "99999999");
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        List<PersonChange> changes = addressBook.getPersonChangeLog().getChangesSince(initialVersion).get();
+        assertEquals(List.of(PersonChange.Type.ADDED, PersonChange.Type.ADDED, PersonChange.Type.REPLACED,
+                PersonChange.Type.REMOVED), changes.stream().map(PersonChange::getType).toList());
+        assertEquals(List.of(ALICE, BENSON, editedAlice, BENSON),
+                changes.stream().map(PersonChange::getPerson).toList());
+        assertEquals(changes.subList(2, 4), addressBook.getPersonChangeLog().getChangesSince(addedVersion).get());
+        assertEquals(List.of(),
+                addressBook.getPersonChangeLog().getChangesSince(addressBook.getVersion()).get());
+
+        // a copy continues the log of the book it copies
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.getVersion(), copy.getVersion());
+        assertEquals(changes, copy.getPersonChangeLog().getChangesSince(initialVersion).get());
+    }
+
+    @Test
+    public void applyChanges_personsRemovedReplacedAndAdded_loggedInOrder() {
+        addressBook.addPersons(List.of(ALICE, BENSON));
+        long addedVersion = addressBook.getVersion();
+        Person editedBenson = withPhone(BENSON, "99999999");
+
+        addressBook.applyChanges(new int[] {0}, Map.of(1, editedBenson), List.of(CARL));
+
+        assertEquals(List.of(editedBenson, CARL), addressBook.getPersonList());
+        assertEquals(Set.of(CARL.getId()), addressBook.findPersonIdsByName(List.of("Carl")));
+        List<PersonChange> changes = addressBook.getPersonChangeLog().getChangesSince(addedVersion).get();
+        assertEquals(List.of(PersonChange.Type.REMOVED, PersonChange.Type.REPLACED, PersonChange.Type.ADDED),
+                changes.stream().map(PersonChange::getType).toList());
+        assertEquals(List.of(ALICE, editedBenson, CARL), changes.stream().map(PersonChange::getPerson).toList());
+    }
+
+    @Test
+    public void applyChanges_recordedAndPublishedAsSingleChange_revertedInPlace() {
+        addressBook.addPersons(List.of(ALICE, BENSON, CARL));
+        Person editedCarl = withPhone(CARL, "99999999");
+        List<Delta> deltas = new ArrayList<>();
+        List<ModelChangeEvent> events = new ArrayList<>();
+        addressBook.setDeltaRecorder(deltas::add);
+        addressBook.setChangeListener(events::add);
+
+        addressBook.applyChanges(new int[] {0}, Map.of(2, editedCarl), List.of(ALICE));
+
+        assertEquals(List.of(BENSON, editedCarl, ALICE), addressBook.getPersonList());
+        assertEquals(1, deltas.size());
+        assertEquals(List.of(ModelChangeEvent.PersonsRemoved.class, ModelChangeEvent.PersonReplaced.class,
+                ModelChangeEvent.PersonsAdded.class), events.stream().map(Object::getClass).toList());
+
+        deltas.get(0).revert(addressBook, new PolicyBook());
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.getPersonList());
+        deltas.get(0).apply(addressBook, new PolicyBook());
+        assertEquals(List.of(BENSON, editedCarl, ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void getPersonChangeLog_unknownVersion_empty() {
+        addressBook.addPerson(ALICE);
+
+        long otherVersion = new AddressBook().getVersion();
+
+        assertEquals(Optional.empty(), addressBook.getPersonChangeLog().getChangesSince(otherVersion));
+        assertEquals(Optional.empty(),
+                addressBook.getPersonChangeLog().getChangesSince(ReadOnlyAddressBook.UNTRACKED_VERSION));
+    }
+
+    @Test
+    public void getPersonChangeLog_personsReplaced_earlierVersionsUnknown() {
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        addressBook.setPersons(List.of(BENSON));
+
+        assertEquals(Optional.empty(), addressBook.getPersonChangeLog().getChangesSince(addedVersion));
+    }
+
+    @Test
+    public void getPersonChangeLog_capacityExceeded_oldestChangesDropped() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        for (int i = 0; i < AddressBook.CHANGE_LOG_CAPACITY; i++) {
+            Person alice = addressBook.getPersonList().get(0);
+            addressBook.setPerson(alice, withPhone(alice, String.valueOf(10000000 + i)));
+        }
+
+        assertEquals(Optional.empty(), addressBook.getPersonChangeLog().getChangesSince(initialVersion));
+        assertEquals(AddressBook.CHANGE_LOG_CAPACITY,
+                addressBook.getPersonChangeLog().getChangesSince(addedVersion).get().size());
+    }
+
+    @Test
+    public void getPersonChangeLog_personReplacedWithOtherId_earlierVersionsUnknown() {
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).build());
+
+        assertEquals(Optional.empty(), addressBook.getPersonChangeLog().getChangesSince(addedVersion));
+    }
+
+    @Test
+    public void findPersonIdsByName_afterEditAndRemove_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new Person(ALICE.getId(), new Name("Alicia Pauline"), ALICE.getPhone(),
+                ALICE.getEmail(), ALICE.getAddress(), ALICE.getBirthday(), ALICE.getPremiumList(), ALICE.getTags());
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptySet(), addressBook.findPersonIdsByName(Arrays.asList("Alice")));
+        assertEquals(Set.of(ALICE.getId()), addressBook.findPersonIdsByName(Arrays.asList("alicia")));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.emptySet(), addressBook.findPersonIdsByName(Arrays.asList("Pauline")));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -91,6 +237,14 @@ public class AddressBookTest {
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
+    /**
+     * Returns {@code person}, with the same ID, but with {@code phone}.
+     */
+    private static Person withPhone(Person person, String phone) {
+        return new Person(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getAddress(),
+                person.getBirthday(), person.getPremiumList(), person.getTags());
+    }
+
     private static class AddressBookStub implements ReadOnlyAddressBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
 
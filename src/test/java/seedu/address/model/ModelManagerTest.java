@@ -2,29 +2,40 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPolicy.HEALTH_2040;
 import static seedu.address.testutil.TypicalPolicy.LIFE_SHIELD;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.user.UserProfile;
+import seedu.address.model.person.Birthday;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.policy.Policy;
 import seedu.address.model.policy.PolicyLink;
 import seedu.address.model.policy.PolicyName;
@@ -110,6 +121,243 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void batch_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batch(null));
+    }
+
+    @Test
+    public void batch_multipleChanges_appliedAsSingleChange() {
+        modelManager.addPerson(ALICE);
+        long policyBookVersion = modelManager.getPolicyBook().getVersion();
+        int[] changeCount = {0};
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            model.addPerson(ALICE);
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(policyBookVersion, modelManager.getPolicyBook().getVersion());
+    }
+
+    @Test
+    public void batch_failingChange_nothingApplied() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.addPolicy(HEALTH_2040);
+            model.addPerson(ALICE);
+        }));
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getPolicyBook().getPolicyList().isEmpty());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void batch_stagedPersonsChangedAgain_finalChangesApplied() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.commitChanges();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        Person editedAgainBenson = new PersonBuilder(BENSON).withPhone("22222222").build();
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("33333333").build();
+
+        modelManager.batch(model -> {
+            model.setPerson(BENSON, editedBenson);
+            model.setPerson(editedBenson, editedAgainBenson);
+            model.deletePerson(CARL);
+            model.addPerson(DANIEL);
+            model.setPerson(DANIEL, editedDaniel);
+            assertFalse(model.hasPerson(CARL));
+            assertTrue(model.hasPerson(editedDaniel));
+            assertEquals(Arrays.asList(ALICE, editedAgainBenson, editedDaniel),
+                    model.getAddressBook().getPersonList());
+        });
+        modelManager.commitChanges();
+
+        assertEquals(Arrays.asList(ALICE, editedAgainBenson, editedDaniel),
+                modelManager.getAddressBook().getPersonList());
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        modelManager.redo();
+        assertEquals(Arrays.asList(ALICE, editedAgainBenson, editedDaniel),
+                modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_policiesChanged_appliedAsSingleChange() {
+        modelManager.addPolicy(HEALTH_2040);
+        modelManager.addPolicy(LIFE_SHIELD);
+        Policy editedPolicy = new PolicyBuilder(LIFE_SHIELD).withPolicyName("Life Shield Plus").build();
+        int[] changeCount = {0};
+        modelManager.getPolicyBook().getPolicyList().addListener((ListChangeListener<Policy>) change ->
+                changeCount[0]++);
+
+        modelManager.batch(model -> {
+            model.setPolicy(LIFE_SHIELD, editedPolicy);
+            model.deletePolicy(HEALTH_2040);
+            model.addPolicy(HEALTH_2040);
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(editedPolicy, HEALTH_2040), modelManager.getPolicyBook().getPolicyList());
+    }
+
+    @Test
+    public void batch_saveUserProfile_throwsIOException() {
+        modelManager.addPerson(ALICE);
+
+        modelManager.batch(model -> {
+            model.deletePerson(ALICE);
+            assertThrows(IOException.class, () -> model.saveUserProfile(new UserProfile()));
+        });
+
+        assertEquals(Arrays.asList(), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_nestedBatchFails_onlyNestedChangesDiscarded() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+
+        modelManager.batch(model -> {
+            model.deletePerson(ALICE);
+            assertThrows(PersonNotFoundException.class, () -> model.batch(nested -> {
+                nested.addPerson(CARL);
+                nested.deletePerson(ALICE);
+            }));
+            assertEquals(Arrays.asList(BENSON), model.getAddressBook().getPersonList());
+        });
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undoRedo_personChanges_revertedAndReappliedInPlace() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.commitChanges();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.commitChanges();
+        modelManager.deletePersons(Arrays.asList(CARL, ALICE));
+        modelManager.commitChanges();
+        modelManager.updateFilteredPersonList(person -> false);
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), modelManager.getAddressBook().getPersonList());
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        modelManager.undo();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertFalse(modelManager.canUndo());
+
+        modelManager.redo();
+        modelManager.redo();
+        modelManager.redo();
+        assertEquals(Arrays.asList(editedBenson), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void undo_deleteAndClear_personsRestored() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.commitChanges();
+        modelManager.deletePerson(BENSON);
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitChanges();
+
+        modelManager.undo();
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void undoRedo_policyChanges_revertedAndReapplied() {
+        modelManager.addPolicy(HEALTH_2040);
+        modelManager.addPolicy(LIFE_SHIELD);
+        modelManager.commitChanges();
+        Policy editedPolicy = new PolicyBuilder(LIFE_SHIELD).withPolicyName("Life Shield Plus").build();
+        modelManager.setPolicy(LIFE_SHIELD, editedPolicy);
+        modelManager.deletePolicy(HEALTH_2040);
+        modelManager.commitChanges();
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(HEALTH_2040, LIFE_SHIELD), modelManager.getPolicyBook().getPolicyList());
+
+        modelManager.redo();
+        assertEquals(Arrays.asList(editedPolicy), modelManager.getPolicyBook().getPolicyList());
+    }
+
+    @Test
+    public void undo_batch_revertedAsOneStep() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitChanges();
+        modelManager.batch(model -> {
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            model.addPolicy(HEALTH_2040);
+        });
+        modelManager.commitChanges();
+
+        modelManager.undo();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getPolicyBook().getPolicyList().isEmpty());
+    }
+
+    @Test
+    public void commitChanges_afterUndo_redoForgotten() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitChanges();
+        modelManager.undo();
+        modelManager.commitChanges();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitChanges();
+
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void commitChanges_historyFull_oldestStepForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistorySize(2);
+        ModelManager model = new ModelManager(new AddressBook(), new PolicyBook(), userPrefs, new UserProfile(),
+                null);
+        for (Person person : Arrays.asList(ALICE, BENSON, CARL)) {
+            model.addPerson(person);
+            model.commitChanges();
+        }
+
+        model.undo();
+        model.undo();
+
+        assertFalse(model.canUndo());
+        assertEquals(Arrays.asList(ALICE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void canUndo_historyDisabled_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistorySize(0);
+        ModelManager model = new ModelManager(new AddressBook(), new PolicyBook(), userPrefs, new UserProfile(),
+                null);
+        model.addPerson(ALICE);
+
+        assertFalse(model.canUndo());
+        model.commitChanges();
+        assertFalse(model.canUndo());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -309,6 +557,147 @@ public class ModelManagerTest {
         assertEquals("Later", birthdays.get(1).getName().fullName);
     }
 
+    @Test
+    public void getUpcomingBirthdays_personsChanged_updatesWithoutRecompute() {
+        ObservableList<Person> birthdays = modelManager.getUpcomingBirthdays();
+        Person person = new PersonBuilder()
+                .withName("Soon")
+                .withBirthday(LocalDate.now().plusDays(5).withYear(1990).toString())
+                .build();
+
+        modelManager.addPerson(person);
+        assertEquals(Arrays.asList(person), birthdays);
+
+        Person far = new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), new Birthday(LocalDate.now().plusDays(60).withYear(1990).toString()),
+                person.getPremiumList(), person.getTags());
+        modelManager.setPerson(person, far);
+        assertTrue(birthdays.isEmpty());
+
+        modelManager.setPerson(far, person);
+        modelManager.deletePerson(person);
+        assertTrue(birthdays.isEmpty());
+        assertSame(birthdays, modelManager.getUpcomingBirthdays());
+    }
+
+    @Test
+    public void getUpcomingBirthdays_clearedAndUndone_changesOnlyUpcomingPersons() {
+        ObservableList<Person> birthdays = modelManager.getUpcomingBirthdays();
+        Person soon = new PersonBuilder()
+                .withName("Soon")
+                .withBirthday(LocalDate.now().plusDays(5).withYear(1990).toString())
+                .build();
+        Person later = new PersonBuilder()
+                .withName("Later")
+                .withBirthday(LocalDate.now().plusDays(20).withYear(1990).toString())
+                .build();
+        Person far = new PersonBuilder()
+                .withName("Far")
+                .withBirthday(LocalDate.now().plusDays(60).withYear(1990).toString())
+                .build();
+        int[] changeCount = {0};
+        birthdays.addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.addPerson(later);
+        modelManager.addPerson(far);
+        modelManager.addPerson(soon);
+        assertEquals(Arrays.asList(soon, later), birthdays);
+        assertEquals(2, changeCount[0]);
+        modelManager.commitChanges();
+
+        modelManager.setAddressBook(new AddressBook());
+        assertTrue(birthdays.isEmpty());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(soon, later), birthdays);
+    }
+
+    @Test
+    public void getUpcomingBirthdays_manyPersonsAddedAndDeleted_updatedInSingleChanges() {
+        ObservableList<Person> birthdays = modelManager.getUpcomingBirthdays();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 10; i > 0; i--) {
+            persons.add(new PersonBuilder()
+                    .withName("Soon " + i)
+                    .withPhone("9000000" + (i - 1))
+                    .withBirthday(LocalDate.now().plusDays(i).withYear(1990).toString())
+                    .build());
+        }
+        int[] changeCount = {0};
+        birthdays.addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.addPersons(persons);
+        List<Person> expected = new ArrayList<>(persons);
+        Collections.reverse(expected);
+        assertEquals(expected, birthdays);
+        assertEquals(1, changeCount[0]);
+
+        modelManager.deletePersons(persons);
+        assertTrue(birthdays.isEmpty());
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void subscribe_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.subscribe(null, event -> {}));
+        assertThrows(NullPointerException.class, () ->
+                modelManager.subscribe(ModelChangeEvent.class, null));
+    }
+
+    @Test
+    public void subscribe_personAndPolicyChanges_publishesEventsOfSubscribedType() {
+        List<ModelChangeEvent.PersonsAdded> added = new ArrayList<>();
+        List<ModelChangeEvent.PersonsRemoved> removed = new ArrayList<>();
+        List<ModelChangeEvent.PersonReplaced> replaced = new ArrayList<>();
+        List<ModelChangeEvent.PolicyChanged> policyChanges = new ArrayList<>();
+        modelManager.subscribe(ModelChangeEvent.PersonsAdded.class, added::add);
+        modelManager.subscribe(ModelChangeEvent.PersonsRemoved.class, removed::add);
+        modelManager.subscribe(ModelChangeEvent.PersonReplaced.class, replaced::add);
+        modelManager.subscribe(ModelChangeEvent.PolicyChanged.class, policyChanges::add);
+
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.addPolicy(HEALTH_2040);
+
+        assertEquals(1, added.size());
+        assertEquals(Arrays.asList(ALICE, BENSON), added.get(0).getPersons());
+        assertEquals(1, replaced.size());
+        assertSame(BENSON, replaced.get(0).getBefore());
+        assertSame(editedBenson, replaced.get(0).getAfter());
+        assertEquals(2, removed.size());
+        assertEquals(Arrays.asList(ALICE), removed.get(0).getPersons());
+        assertEquals(Arrays.asList(editedBenson), removed.get(1).getPersons());
+        assertEquals(1, policyChanges.size());
+    }
+
+    @Test
+    public void subscribe_batchAndUndo_publishesOnlyChangedPersons() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON));
+        modelManager.commitChanges();
+        List<ModelChangeEvent> events = new ArrayList<>();
+        modelManager.subscribe(ModelChangeEvent.class, events::add);
+
+        modelManager.batch(model -> {
+            model.addPerson(CARL);
+            model.deletePerson(ALICE);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(Arrays.asList(ALICE), ((ModelChangeEvent.PersonsRemoved) events.get(0)).getPersons());
+        assertEquals(Arrays.asList(CARL), ((ModelChangeEvent.PersonsAdded) events.get(1)).getPersons());
+
+        events.clear();
+        modelManager.undo();
+
+        assertEquals(2, events.size());
+        assertEquals(Arrays.asList(CARL), ((ModelChangeEvent.PersonsRemoved) events.get(0)).getPersons());
+        assertEquals(Arrays.asList(ALICE), ((ModelChangeEvent.PersonsAdded) events.get(1)).getPersons());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void setUserProfileFilePath_validPath_updatesPath() {
         Path path = Paths.get("new/file/path.json");
@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class BirthdayCalendarTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 20);
+
+    private final BirthdayCalendar birthdayCalendar = new BirthdayCalendar();
+
+    @Test
+    public void getPersonsWithBirthdaysWithin_nullStart_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> birthdayCalendar.getPersonsWithBirthdaysWithin(null, 30));
+    }
+
+    @Test
+    public void getPersonsWithBirthdaysWithin_emptyCalendar_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), birthdayCalendar.getPersonsWithBirthdaysWithin(TODAY, 30));
+    }
+
+    @Test
+    public void getPersonsWithBirthdaysWithin_acrossYearEnd_returnsPersonsInDateOrder() {
+        Person newYear = withBirthday("New Year", "1990-01-02");
+        Person christmas = withBirthday("Christmas", "1985-12-25");
+        Person today = withBirthday("Today", "2000-12-20");
+        Person lastDay = withBirthday("Last Day", "1970-01-19");
+        Person yesterday = withBirthday("Yesterday", "1999-12-19");
+        Person tooLate = withBirthday("Too Late", "1970-01-20");
+        birthdayCalendar.reset(Arrays.asList(newYear, christmas, today, lastDay, yesterday, tooLate));
+
+        assertEquals(Arrays.asList(today, christmas, newYear, lastDay),
+                birthdayCalendar.getPersonsWithBirthdaysWithin(TODAY, 30));
+    }
+
+    @Test
+    public void getPersonsWithBirthdaysWithin_leapDayBirthday_fallsOnLastDayOfFebruary() {
+        Person leapDay = withBirthday("Leap Day", "2000-02-29");
+        birthdayCalendar.add(leapDay);
+
+        // not a leap year
+        assertEquals(List.of(leapDay), birthdayCalendar.getPersonsWithBirthdaysWithin(LocalDate.of(2025, 2, 28), 0));
+        assertEquals(List.of(), birthdayCalendar.getPersonsWithBirthdaysWithin(LocalDate.of(2025, 3, 1), 30));
+
+        // leap year
+        assertEquals(List.of(), birthdayCalendar.getPersonsWithBirthdaysWithin(LocalDate.of(2028, 2, 28), 0));
+        assertEquals(List.of(leapDay), birthdayCalendar.getPersonsWithBirthdaysWithin(LocalDate.of(2028, 2, 29), 0));
+    }
+
+    @Test
+    public void replace_changedBirthday_movesPerson() {
+        Person person = withBirthday("Alice", "1990-12-25");
+        birthdayCalendar.add(person);
+
+        Person edited = new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), new Birthday("1990-06-01"), person.getPremiumList(), person.getTags());
+        birthdayCalendar.replace(person, edited);
+
+        assertEquals(List.of(), birthdayCalendar.getPersonsWithBirthdaysWithin(TODAY, 30));
+        assertEquals(List.of(edited), birthdayCalendar.getPersonsWithBirthdaysWithin(LocalDate.of(2026, 6, 1), 0));
+    }
+
+    @Test
+    public void replace_sameBirthday_keepsOrder() {
+        Person first = withBirthday("First", "1990-12-25");
+        Person second = withBirthday("Second", "1991-12-25");
+        birthdayCalendar.reset(Arrays.asList(first, second));
+
+        Person editedFirst = new Person(first.getId(), new Name("Edited"), first.getPhone(), first.getEmail(),
+                first.getAddress(), first.getBirthday(), first.getPremiumList(), first.getTags());
+        birthdayCalendar.replace(first, editedFirst);
+
+        assertEquals(Arrays.asList(editedFirst, second), birthdayCalendar.getPersonsWithBirthdaysWithin(TODAY, 30));
+    }
+
+    @Test
+    public void remove_existingPerson_removesFromCalendar() {
+        Person person = withBirthday("Alice", "1990-12-25");
+        birthdayCalendar.add(person);
+        birthdayCalendar.remove(person);
+        assertEquals(List.of(), birthdayCalendar.getPersonsWithBirthdaysWithin(TODAY, 30));
+    }
+
+    @Test
+    public void getNextBirthday_variousBirthdays_returnsNextOccurrence() {
+        assertEquals(LocalDate.of(2025, 12, 25),
+                BirthdayCalendar.getNextBirthday(withBirthday("Alice", "1990-12-25"), TODAY));
+        assertEquals(TODAY, BirthdayCalendar.getNextBirthday(withBirthday("Alice", "1990-12-20"), TODAY));
+        assertEquals(LocalDate.of(2026, 1, 5),
+                BirthdayCalendar.getNextBirthday(withBirthday("Alice", "1990-01-05"), TODAY));
+        assertEquals(LocalDate.of(2026, 2, 28),
+                BirthdayCalendar.getNextBirthday(withBirthday("Alice", "2000-02-29"), TODAY));
+    }
+
+    private static Person withBirthday(String name, String birthday) {
+        return new PersonBuilder().withName(name).withBirthday(birthday).build();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void findIds_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.findIds(null));
+    }
+
+    @Test
+    public void findIds_emptyIndex_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), nameTokenIndex.findIds(Arrays.asList("Alice")));
+    }
+
+    @Test
+    public void findIds_matchingKeywords_returnsUnion() {
+        nameTokenIndex.reset(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        // one keyword, case-insensitive
+        assertEquals(Set.of(ALICE.getId()), nameTokenIndex.findIds(Arrays.asList("aLIce")));
+
+        // shared word
+        assertEquals(Set.of(BENSON.getId(), DANIEL.getId()), nameTokenIndex.findIds(Arrays.asList("Meier")));
+
+        // multiple keywords
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId(), DANIEL.getId()),
+                nameTokenIndex.findIds(Arrays.asList("Pauline", "Meier")));
+
+        // partial word -> no match
+        assertEquals(Collections.emptySet(), nameTokenIndex.findIds(Arrays.asList("Alic")));
+    }
+
+    @Test
+    public void replace_renamedPerson_updatesIndex() {
+        nameTokenIndex.add(ALICE);
+        Person renamedAlice = new Person(ALICE.getId(), new Name("Alicia Tan"), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getBirthday(), ALICE.getPremiumList(), ALICE.getTags());
+        nameTokenIndex.replace(ALICE, renamedAlice);
+        assertEquals(Collections.emptySet(), nameTokenIndex.findIds(Arrays.asList("Alice")));
+        assertEquals(Set.of(ALICE.getId()), nameTokenIndex.findIds(Arrays.asList("tan")));
+    }
+
+    @Test
+    public void remove_person_removesAllWords() {
+        Person person = new PersonBuilder().withName("Ann  Ann Lee ").build();
+        nameTokenIndex.add(person);
+        assertEquals(Set.of(person.getId()), nameTokenIndex.findIds(Arrays.asList("ann")));
+        nameTokenIndex.remove(person);
+        assertEquals(Collections.emptySet(), nameTokenIndex.findIds(Arrays.asList("Ann", "Lee")));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdentityKeyTest {
+
+    @Test
+    public void of_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIdentityKey.of(null));
+    }
+
+    @Test
+    public void equals_samePerson_equalKeys() {
+        // same values -> equal
+        assertEquals(PersonIdentityKey.of(ALICE), PersonIdentityKey.of(new PersonBuilder(ALICE).build()));
+
+        // non-identity fields differ -> equal
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(PersonIdentityKey.of(ALICE), PersonIdentityKey.of(editedAlice));
+        assertEquals(PersonIdentityKey.of(ALICE).hashCode(), PersonIdentityKey.of(editedAlice).hashCode());
+
+        // name, email and address differ in case -> equal
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB.toUpperCase())
+                .withEmail(VALID_EMAIL_BOB.toUpperCase()).withAddress(VALID_ADDRESS_BOB.toLowerCase()).build();
+        assertEquals(PersonIdentityKey.of(BOB), PersonIdentityKey.of(editedBob));
+    }
+
+    @Test
+    public void equals_differentPerson_differentKeys() {
+        // different person -> not equal
+        assertNotEquals(PersonIdentityKey.of(ALICE), PersonIdentityKey.of(BOB));
+
+        // different phone -> not equal
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertNotEquals(PersonIdentityKey.of(ALICE), PersonIdentityKey.of(editedAlice));
+
+        // name has trailing spaces -> not equal
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB + " ").build();
+        assertNotEquals(PersonIdentityKey.of(BOB), PersonIdentityKey.of(editedBob));
+    }
+}
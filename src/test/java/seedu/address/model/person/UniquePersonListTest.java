@@ -7,14 +7,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -109,6 +114,53 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void add_personWithExistingId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceId = new Person(ALICE.getId(), BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress(), BOB.getBirthday(), BOB.getPremiumList(), BOB.getTags());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(bobWithAliceId));
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.get(BOB.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.get(new PersonBuilder(BOB).build().getId()));
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsId_replacesInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new Person(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                new Address(VALID_ADDRESS_BOB), ALICE.getBirthday(), ALICE.getPremiumList(), ALICE.getTags());
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.asUnmodifiableObservableList().get(0));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void remove_existingPerson_updatesPositionsOfLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.get(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.get(BOB.getId()));
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -119,12 +171,115 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsPersonsInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, AMY));
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BOB, AMY), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(AMY), uniquePersonList.get(AMY.getId()));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobCopy = new PersonBuilder(BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, bobCopy)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        List<Person> removed = uniquePersonList.removeAll(Arrays.asList(carl, ALICE));
+
+        assertEquals(Arrays.asList(ALICE, carl), removed);
+        assertEquals(1, changeCount[0]);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.of(BOB), uniquePersonList.get(BOB.getId()));
+    }
+
+    @Test
+    public void insertAll_removedPersons_restoredAtTheirPositions() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        List<Person> removed = uniquePersonList.removeAll(Arrays.asList(carl, ALICE));
+
+        uniquePersonList.insertAll(new int[] {0, 2}, removed);
+
+        assertEquals(Arrays.asList(ALICE, BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(carl), uniquePersonList.get(carl.getId()));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void insertAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.insertAll(new int[] {0}, Collections.singletonList(ALICE)));
+    }
+
+    @Test
+    public void applyAll_personsRemovedReplacedAndInserted_appliedInOneChange() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+        Person editedCarl = new PersonBuilder(carl).withPhone("91111111").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.applyAll(new int[] {0}, Map.of(2, editedCarl), new int[] {0, 3}, Arrays.asList(AMY, ALICE));
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(AMY, BOB, editedCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(carl));
+        assertEquals(Optional.empty(), uniquePersonList.get(carl.getId()));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        assertEquals(2, uniquePersonList.indexOf(editedCarl));
+        assertEquals(3, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void applyAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person bobCopy = new PersonBuilder(BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.applyAll(new int[0], Map.of(), new int[] {2}, Collections.singletonList(bobCopy)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.applyAll(new int[0], Map.of(0, bobCopy), new int[0], Collections.emptyList()));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
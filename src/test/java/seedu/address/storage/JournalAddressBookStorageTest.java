@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, edit and remove
+        original.addPerson(HOON);
+        Person editedAlice = new Person(ALICE.getId(), new Name("Alicia Pauline"), ALICE.getPhone(),
+                ALICE.getEmail(), ALICE.getAddress(), ALICE.getBirthday(), ALICE.getPremiumList(), ALICE.getTags());
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, journalLines(filePath).size());
+        assertReadBackEquals(original, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_copyOfChangedAddressBook_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, journalLines(filePath).size());
+        assertReadBackEquals(original, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_personListReplaced_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPersons(List.of(BENSON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertReadBackEquals(original, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        storage.saveAddressBook(reordered);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertReadBackEquals(reordered, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, journalLines(filePath).size());
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines(filePath).size());
+        assertReadBackEquals(original, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecordAndCompactsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"type\":\"add\",\"per",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertReadBackEquals(original, reopened);
+
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertEquals(1, journalLines(filePath).size());
+        assertReadBackEquals(original, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot replaced without its journal, e.g. by a crash between writing a snapshot and its journal
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.removePerson(ALICE);
+        Path otherFilePath = testFolder.resolve("other.json");
+        new JsonAddressBookStorage(otherFilePath).saveAddressBook(replacement);
+        Files.copy(otherFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertReadBackEquals(replacement, new JournalAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_inconsistentRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // the removed person is removed again
+        String removeRecord = journalLines(filePath).get(1);
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), removeRecord + "\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithoutIds_writesSnapshotOnFirstSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // the default address book has no stored person IDs
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertReadBackEquals(addressBook, new JournalAddressBookStorage(filePath));
+    }
+
+    private static List<String> journalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, JournalAddressBookStorage storage)
+            throws Exception {
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(expected, readBack);
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+        assertTrue(readBack.getPersonList().size() == expected.getPersonList().size());
+    }
+}
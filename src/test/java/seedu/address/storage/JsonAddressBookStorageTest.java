@@ -155,6 +155,16 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_journalExists_deletesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.notExists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.policy.Policy;
+
+/**
+ * A utility class to read the persons and policies written as JSON Lines, one JSON object per line.
+ */
+public class JsonLinesTestUtil {
+
+    /**
+     * Returns the person on a line of JSON.
+     */
+    public static Person readPerson(String line) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedPerson.class).toModelType();
+    }
+
+    /**
+     * Returns the policy on a line of JSON.
+     */
+    public static Policy readPolicy(String line) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedPolicy.class).toModelType();
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -104,4 +105,36 @@ public class JsonUserProfileStorageTest {
 
         assertTrue(Files.exists(filePath), "The profile file should be created when it doesn't exist.");
     }
+
+    @Test
+    public void readUserProfile_fileUnchanged_fileNotParsedAgain() throws DataLoadingException, IOException {
+        Path filePath = getTestFilePath("userProfile.json");
+        JsonUserProfileStorage jsonUserProfileStorage = new JsonUserProfileStorage(filePath);
+        UserProfile testProfile = new UserProfile(new Name("Alice"), new Email("alice@example.com"),
+                new Phone("123456789"));
+        jsonUserProfileStorage.saveUserProfile(testProfile);
+
+        // Content that cannot be parsed, with the same size and modification time as the saved profile
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Files.writeString(filePath, "x".repeat((int) Files.size(filePath)));
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        assertEquals(Optional.of(testProfile), jsonUserProfileStorage.readUserProfile());
+    }
+
+    @Test
+    public void readUserProfile_fileModified_returnsModifiedProfile() throws DataLoadingException, IOException {
+        Path filePath = getTestFilePath("userProfile.json");
+        JsonUserProfileStorage jsonUserProfileStorage = new JsonUserProfileStorage(filePath);
+        jsonUserProfileStorage.saveUserProfile(new UserProfile());
+        jsonUserProfileStorage.readUserProfile();
+
+        UserProfile modifiedProfile = new UserProfile(new Name("Bob"), new Email("bob@example.com"),
+                new Phone("987654321"));
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        new JsonUserProfileStorage(filePath).saveUserProfile(modifiedProfile);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+
+        assertEquals(Optional.of(modifiedProfile), jsonUserProfileStorage.readUserProfile());
+    }
 }
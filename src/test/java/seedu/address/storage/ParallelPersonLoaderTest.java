@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonLoaderTest {
+
+    private static final int CHUNK_SIZE = 600;
+    private static final int PERSON_COUNT = 1500;
+
+    @Test
+    public void finish_validPersons_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = getPersons();
+        ParallelPersonLoader loader = new ParallelPersonLoader(CHUNK_SIZE);
+        for (Person person : persons) {
+            loader.add(new JsonAdaptedPerson(person));
+        }
+
+        assertEquals(persons, loader.finish());
+    }
+
+    @Test
+    public void finish_duplicateInLaterChunk_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(getPersons());
+        Person copy = new PersonBuilder(getPersons().get(3)).build();
+        jsonAdaptedPersons.add(new JsonAdaptedPerson(copy));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                load(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void finish_duplicateId_throwsIllegalValueException() {
+        List<Person> persons = getPersons();
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(persons);
+        Person sameId = new Person(persons.get(CHUNK_SIZE + 1).getId(), new Name("Someone Else"),
+                persons.get(0).getPhone(), persons.get(0).getEmail(), persons.get(0).getAddress(),
+                persons.get(0).getBirthday(), persons.get(0).getPremiumList(), persons.get(0).getTags());
+        jsonAdaptedPersons.set(PERSON_COUNT - 1, new JsonAdaptedPerson(sameId));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID, () ->
+                load(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void finish_invalidPersonBeforeDuplicate_reportsInvalidPerson() {
+        List<Person> persons = getPersons();
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(persons);
+        Person person = persons.get(0);
+        jsonAdaptedPersons.set(CHUNK_SIZE - 2, new JsonAdaptedPerson("R@chel", person.getPhone().value,
+                person.getEmail().value, person.getAddress().value, person.getBirthday().toString(), null,
+                List.of()));
+        jsonAdaptedPersons.set(CHUNK_SIZE - 1, new JsonAdaptedPerson(persons.get(1)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> load(jsonAdaptedPersons));
+        }
+    }
+
+    private static List<Person> load(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        ParallelPersonLoader loader = new ParallelPersonLoader(CHUNK_SIZE);
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            loader.add(jsonAdaptedPerson);
+        }
+        return loader.finish();
+    }
+
+    private static List<Person> getPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> toJsonAdaptedPersons(List<Person> persons) {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return jsonAdaptedPersons;
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -65,6 +69,40 @@ public class StorageManagerTest {
         assertEquals(original, new PolicyBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedSinceSave_notWrittenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // saved to another file -> written
+        Path otherFilePath = getTempFilePath("otherAb");
+        storageManager.saveAddressBook(original, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+
+        // modified -> written
+        original.removePerson(ALICE);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePolicyBook_unmodifiedSinceSave_notWrittenAgain() throws Exception {
+        PolicyBook original = getTypicalPolicyBook();
+        storageManager.savePolicyBook(original);
+        Files.delete(storageManager.getPolicyBookFilePath());
+
+        storageManager.savePolicyBook(original);
+        assertFalse(Files.exists(storageManager.getPolicyBookFilePath()));
+
+        // copy of the same policies -> written
+        storageManager.savePolicyBook(new PolicyBook(original));
+        assertTrue(Files.exists(storageManager.getPolicyBookFilePath()));
+    }
+
     @Test
     public void userProfileReadSave() throws Exception {
         UserProfile original = new UserProfile();
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPolicy.getTypicalPolicyBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PolicyBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_thenClose_writesLatestBooks() throws Exception {
+        StorageManager storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")));
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        PolicyBook policyBook = getTypicalPolicyBook();
+        saver.save(addressBook, policyBook);
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook, policyBook);
+        saver.close();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(policyBook, new PolicyBook(storage.readPolicyBook().get()));
+    }
+
+    @Test
+    public void save_duringSlowSave_coalescesPendingSaves() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    firstSaveStarted.countDown();
+                    try {
+                        firstSaveReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook, getTypicalPolicyBook());
+        assertTrue(firstSaveStarted.await(10, TimeUnit.SECONDS));
+
+        // three saves while the first one is being written
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook, getTypicalPolicyBook());
+        saver.save(addressBook, getTypicalPolicyBook());
+        saver.save(addressBook, getTypicalPolicyBook());
+        firstSaveReleased.countDown();
+        saver.close();
+
+        assertEquals(2, saveCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReportedOnce() throws Exception {
+        IOException ioException = new IOException("dummy IO exception");
+        StorageManager storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw ioException;
+            }
+        });
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        saver.save(getTypicalAddressBook(), getTypicalPolicyBook());
+        assertThrows(IOException.class, saver::close);
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void save_unmodifiedBook_notSavedAgain() throws Exception {
+        CountDownLatch firstSaveDone = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+                firstSaveDone.countDown();
+            }
+        });
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.saveAddressBook(addressBook);
+        assertTrue(firstSaveDone.await(10, TimeUnit.SECONDS));
+        saver.saveAddressBook(addressBook);
+        saver.close();
+
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void save_unmodifiedBookAfterFailedSave_savedAgain() throws Exception {
+        CountDownLatch firstSaveDone = new CountDownLatch(1);
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    firstSaveDone.countDown();
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.saveAddressBook(addressBook);
+        assertTrue(firstSaveDone.await(10, TimeUnit.SECONDS));
+        while (!saver.takeFailure().isPresent()) {
+            Thread.sleep(1);
+        }
+        saver.saveAddressBook(addressBook);
+        saver.close();
+
+        assertEquals(2, saveCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private StorageManager createStorage(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonPolicyBookStorage(testFolder.resolve("pb")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonUserProfileStorage(testFolder.resolve("up")));
+    }
+}
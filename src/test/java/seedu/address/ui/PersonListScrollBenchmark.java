@@ -0,0 +1,114 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.stage.Stage;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Scrolls a {@code PersonListPanel} of {@value #PERSON_COUNT} persons a fixed distance every frame, and prints the
+ * percentiles of the frame times and of the time taken to update the cells in each frame.
+ * Frames are not capped at the refresh rate of the screen while it runs, so that the frame times show the work done
+ * for each frame. It needs a display and is not run with the tests; run it with {@code gradlew scrollBenchmark}.
+ */
+public class PersonListScrollBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+    private static final int WARM_UP_FRAMES = 300;
+    private static final int MEASURED_FRAMES = 1_500;
+    private static final double SCROLL_PIXELS_PER_FRAME = 150;
+
+    /**
+     * Runs the benchmark and prints its results.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("javafx.animation.fullspeed", "true");
+        ObservableList<Person> persons = createPersons();
+
+        CountDownLatch isFinished = new CountDownLatch(1);
+        Platform.startup(() -> startScrolling(persons, isFinished));
+        isFinished.await();
+        Platform.exit();
+    }
+
+    private static ObservableList<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            PersonBuilder personBuilder = new PersonBuilder()
+                    .withName("Client " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("client" + i + "@example.com")
+                    .withPremiumList("Shield" + i % 7 + " " + (100 + i % 900));
+            if (i % 2 == 0) {
+                personBuilder.withTags("friends", "vip" + i % 5);
+            }
+            persons.add(personBuilder.build());
+        }
+        return FXCollections.observableArrayList(persons);
+    }
+
+    private static void startScrolling(ObservableList<Person> persons, CountDownLatch isFinished) {
+        PersonListPanel personListPanel = new PersonListPanel(persons);
+        Scene scene = new Scene(personListPanel.getRoot(), 1000, 800);
+        scene.getStylesheets().addAll(
+                PersonListScrollBenchmark.class.getResource("/view/DarkTheme.css").toExternalForm(),
+                PersonListScrollBenchmark.class.getResource("/view/Extensions.css").toExternalForm());
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+
+        VirtualFlow<?> flow = (VirtualFlow<?>) personListPanel.getRoot().lookup(".virtual-flow");
+        LatencyHistogram frameTimes = new LatencyHistogram();
+        LatencyHistogram cellUpdateTimes = new LatencyHistogram();
+
+        new AnimationTimer() {
+            private int frame;
+            private long lastFrameTime;
+
+            @Override
+            public void handle(long now) {
+                if (frame > WARM_UP_FRAMES) {
+                    frameTimes.record(now - lastFrameTime);
+                }
+                lastFrameTime = now;
+
+                long scrollStartTime = System.nanoTime();
+                flow.scrollPixels(SCROLL_PIXELS_PER_FRAME);
+                if (frame >= WARM_UP_FRAMES) {
+                    cellUpdateTimes.record(System.nanoTime() - scrollStartTime);
+                }
+
+                frame++;
+                if (frame == WARM_UP_FRAMES + MEASURED_FRAMES) {
+                    stop();
+                    stage.close();
+                    System.out.printf("Scrolled %d frames through %d persons%n", MEASURED_FRAMES, PERSON_COUNT);
+                    print("Frame time", frameTimes);
+                    print("Cell update time", cellUpdateTimes);
+                    isFinished.countDown();
+                }
+            }
+        }.start();
+    }
+
+    private static void print(String name, LatencyHistogram histogram) {
+        System.out.printf("%s in ms: median %.3f, 90th percentile %.3f, 99th percentile %.3f, max %.3f%n", name,
+                toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(90)),
+                toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import seedu.address.MainApp;
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * Measures the time taken to load {@code PersonListCard.fxml} and to create a {@code PersonCard}.
+ * The first load of each kind is shown separately, as it is what the app pays at startup. The first load of the
+ * first kind also includes loading the classes of {@code FXMLLoader}.
+ * It needs a display and is not run with the tests; run it with {@code gradlew fxmlLoadBenchmark}.
+ */
+public class UiPartLoadBenchmark {
+
+    private static final String FXML_FILE = UiPart.FXML_FILE_FOLDER + "PersonListCard.fxml";
+    private static final int WARM_UP_LOADS = 500;
+    private static final int MEASURED_LOADS = 2_000;
+
+    /**
+     * A way of creating a part of the UI.
+     */
+    @FunctionalInterface
+    private interface Loader {
+        void load() throws IOException;
+    }
+
+    /**
+     * Runs the benchmark and prints its results.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        URL location = MainApp.class.getResource(FXML_FILE);
+        CountDownLatch isFinished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                measure("Loading PersonListCard.fxml", () -> {
+                    FXMLLoader fxmlLoader = new FXMLLoader(location);
+                    fxmlLoader.load();
+                });
+                measure("Creating a PersonCard", PersonCard::new);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                isFinished.countDown();
+            }
+        });
+        isFinished.await();
+        Platform.exit();
+    }
+
+    private static void measure(String name, Loader loader) throws IOException {
+        long startTime = System.nanoTime();
+        loader.load();
+        long firstLoadTime = System.nanoTime() - startTime;
+
+        for (int i = 0; i < WARM_UP_LOADS; i++) {
+            loader.load();
+        }
+        LatencyHistogram loadTimes = new LatencyHistogram();
+        for (int i = 0; i < MEASURED_LOADS; i++) {
+            startTime = System.nanoTime();
+            loader.load();
+            loadTimes.record(System.nanoTime() - startTime);
+        }
+
+        System.out.printf("%s in ms: first %.3f, then median %.3f, 99th percentile %.3f%n", name,
+                toMillis(firstLoadTime), toMillis(loadTimes.getPercentile(50)), toMillis(loadTimes.getPercentile(99)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}